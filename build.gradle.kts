@@ -9,6 +9,7 @@ plugins {
 
     alias(libs.plugins.shadow)
     alias(libs.plugins.licenser)
+    alias(libs.plugins.jmh)
 
     eclipse
     idea
@@ -33,6 +34,17 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // Machine-readable results, so runs can be diffed between releases to spot regressions.
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // Redis benchmarks connect to this server, e.g. ./gradlew jmh -PredisConnection=localhost
+    jvmArgsAppend.add("-Dredis.connection=${findProperty("redisConnection") ?: "localhost"}")
+    // Restrict the run to matching benchmarks, e.g. ./gradlew jmh -PjmhIncludes=InMemory
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
 tasks.compileJava.configure {
     options.encoding = Charsets.UTF_8.name()
     options.release.set(17)
@@ -129,6 +141,10 @@ tasks {
         filteringCharset = Charsets.UTF_8.name()
     }
 
+    named<JavaCompile>("compileJmhJava") {
+        options.encoding = Charsets.UTF_8.name()
+    }
+
     named("build") {
         dependsOn(named("shadowJar"))
     }
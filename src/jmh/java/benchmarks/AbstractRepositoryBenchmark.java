@@ -0,0 +1,186 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package benchmarks;
+
+import com.izanagicraft.storage.repository.DataRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * data-storage; benchmarks:AbstractRepositoryBenchmark
+ * <p>
+ * Shared read/write benchmarks for {@link DataRepository} implementations.
+ * Subclasses create the repository under test and may narrow the {@link State} scope, e.g. to {@link Scope#Thread}
+ * for repositories which are not thread-safe.
+ * <p>
+ * The single threaded {@code read}/{@code write} benchmarks measure the raw operation cost, while the
+ * {@code readHeavy} (3 readers, 1 writer) and {@code writeHeavy} (1 reader, 3 writers) groups measure
+ * mixed workloads under contention.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class AbstractRepositoryBenchmark {
+
+    private static final int SEQUENCE_LENGTH = 1 << 16;
+    private static final int SEQUENCE_MASK = SEQUENCE_LENGTH - 1;
+
+    @Param({"64", "1024", "16384"})
+    public int valueSize;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public KeyDistribution distribution;
+
+    @Param({"1024"})
+    public int keyCount;
+
+    protected DataRepository<byte[]> repository;
+    private String[] keys;
+    private int[] sequence;
+    private byte[] value;
+
+    /**
+     * Creates the repository under test.
+     *
+     * @return the repository to benchmark
+     * @throws Exception if the repository cannot be created
+     */
+    protected abstract DataRepository<byte[]> createRepository() throws Exception;
+
+    /**
+     * Releases resources held by the repository under test.
+     *
+     * @throws Exception if the resources cannot be released
+     */
+    protected void destroyRepository() throws Exception {
+        repository.clearStorage();
+    }
+
+    @Setup(Level.Trial)
+    public void setUpRepository() throws Exception {
+        repository = createRepository();
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key" + i;
+        }
+        sequence = distribution.sequence(keyCount, SEQUENCE_LENGTH, 42L);
+        value = new byte[valueSize];
+        ThreadLocalRandom.current().nextBytes(value);
+
+        // Pre-populate, so reads measure hits rather than misses
+        for (String key : keys) {
+            repository.storeData(key, value);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRepository() throws Exception {
+        destroyRepository();
+    }
+
+    /**
+     * Per thread position in the shared key sequence. Each thread starts at a random offset, so threads do not
+     * access keys in lock step.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = ThreadLocalRandom.current().nextInt(SEQUENCE_LENGTH);
+    }
+
+    protected String nextKey(Cursor cursor) {
+        return keys[sequence[cursor.position++ & SEQUENCE_MASK]];
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] read(Cursor cursor) {
+        return repository.getData(nextKey(cursor));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] write(Cursor cursor) {
+        return repository.storeData(nextKey(cursor), value);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public byte[] readHeavyRead(Cursor cursor) {
+        return repository.getData(nextKey(cursor));
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public byte[] readHeavyWrite(Cursor cursor) {
+        return repository.storeData(nextKey(cursor), value);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public byte[] writeHeavyRead(Cursor cursor) {
+        return repository.getData(nextKey(cursor));
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public byte[] writeHeavyWrite(Cursor cursor) {
+        return repository.storeData(nextKey(cursor), value);
+    }
+
+}
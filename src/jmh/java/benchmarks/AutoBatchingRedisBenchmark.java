@@ -0,0 +1,150 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package benchmarks;
+
+import com.izanagicraft.storage.repository.AutoBatchingRedisDataRepository;
+import com.izanagicraft.storage.repository.RedisDataRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * data-storage; benchmarks:AutoBatchingRedisBenchmark
+ * <p>
+ * Compares 64 threads calling {@code getData}/{@code storeData} one key at a time on a connection per thread
+ * against the same calls on a single shared {@link AutoBatchingRedisDataRepository}.
+ * Requires a reachable Redis server, configured through the {@code redis.connection} system property
+ * (defaults to {@code localhost}).
+ * <p>
+ * <b>Note:</b> the benchmark flushes the selected Redis database, do not point it at a server holding real data.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class AutoBatchingRedisBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        @Param({"64", "1024"})
+        public int valueSize;
+
+        private AutoBatchingRedisDataRepository<byte[]> repository;
+        private byte[] value;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            repository = new AutoBatchingRedisDataRepository<>(System.getProperty("redis.connection", "localhost"));
+            value = new byte[valueSize];
+            ThreadLocalRandom.current().nextBytes(value);
+            for (int i = 0; i < KEY_COUNT; i++) {
+                repository.storeData("key" + i, value);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            repository.clearStorage();
+            repository.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+
+        private RedisDataRepository<byte[]> repository;
+        private byte[] value;
+
+        @Setup(Level.Trial)
+        public void setUp(Shared shared) {
+            // The shared state populated the keys already
+            repository = new RedisDataRepository<>(System.getProperty("redis.connection", "localhost"));
+            value = shared.value;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            repository.close();
+        }
+
+    }
+
+    private static String nextKey() {
+        return "key" + ThreadLocalRandom.current().nextInt(KEY_COUNT);
+    }
+
+    @Benchmark
+    public byte[] perThreadRead(PerThread state) {
+        return state.repository.getData(nextKey());
+    }
+
+    @Benchmark
+    public byte[] perThreadWrite(PerThread state) {
+        return state.repository.storeData(nextKey(), state.value);
+    }
+
+    @Benchmark
+    public byte[] autoBatchedRead(Shared state) {
+        return state.repository.getData(nextKey());
+    }
+
+    @Benchmark
+    public byte[] autoBatchedWrite(Shared state) {
+        return state.repository.storeData(nextKey(), state.value);
+    }
+
+}
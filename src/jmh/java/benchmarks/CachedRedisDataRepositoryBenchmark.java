@@ -0,0 +1,70 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package benchmarks;
+
+import com.izanagicraft.storage.repository.CachedRedisDataRepository;
+import com.izanagicraft.storage.repository.DataRepository;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * data-storage; benchmarks:CachedRedisDataRepositoryBenchmark
+ * <p>
+ * Requires a reachable Redis server, see {@link RedisDataRepositoryBenchmark}.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+public class CachedRedisDataRepositoryBenchmark extends AbstractRepositoryBenchmark {
+
+    @Override
+    protected DataRepository<byte[]> createRepository() {
+        return new CachedRedisDataRepository<>(System.getProperty("redis.connection", "localhost"));
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package benchmarks;
+
+import com.izanagicraft.storage.migration.DataMigration;
+import com.izanagicraft.storage.migration.MigrationResult;
+import com.izanagicraft.storage.repository.DataRepository;
+import com.izanagicraft.storage.repository.FileDataRepository;
+import com.izanagicraft.storage.repository.InMemoryDataRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * data-storage; benchmarks:MigrationBenchmark
+ * <p>
+ * Measures the time to migrate a million keys from an in-memory source into an in-memory or file target,
+ * which stand in for remote backends. Every invocation copies the whole data set once.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MigrationBenchmark {
+
+    public enum Target {
+        IN_MEMORY, FILE
+    }
+
+    @Param({"1000000"})
+    public int keyCount;
+
+    @Param({"256"})
+    public int valueSize;
+
+    @Param({"IN_MEMORY", "FILE"})
+    public Target target;
+
+    @Param({"1", "4", "16"})
+    public int concurrency;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private InMemoryDataRepository<byte[]> sourceRepository;
+    private DataRepository<byte[]> targetRepository;
+    private File directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        sourceRepository = new InMemoryDataRepository<>();
+        byte[] value = new byte[valueSize];
+        ThreadLocalRandom.current().nextBytes(value);
+        for (int i = 0; i < keyCount; i++) {
+            sourceRepository.storeData("key" + i, value);
+        }
+
+        if (target == Target.FILE) {
+            directory = Files.createTempDirectory("data-storage-migration").toFile();
+            targetRepository = new FileDataRepository<>(directory);
+        } else {
+            targetRepository = new InMemoryDataRepository<>();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTarget() {
+        targetRepository.clearStorage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        targetRepository.clearStorage();
+        sourceRepository.clearStorage();
+        if (directory != null) {
+            directory.delete();
+        }
+    }
+
+    @Benchmark
+    public MigrationResult migrate() throws Exception {
+        DataMigration<byte[]> migration = new DataMigration<>(sourceRepository, targetRepository);
+        migration.setConcurrency(concurrency);
+        migration.setBatchSize(batchSize);
+        return migration.run();
+    }
+
+}
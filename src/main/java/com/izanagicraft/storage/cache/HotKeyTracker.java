@@ -0,0 +1,252 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * data-storage; com.izanagicraft.storage.cache:HotKeyTracker
+ * <p>
+ * Estimates how often keys are accessed with a Count-Min sketch and keeps the keys with the highest estimates.
+ * The sketch consists of {@value #DEPTH} rows of counters, every access increments one counter per row and the
+ * estimate of a key is the smallest of its counters. Estimates may be too high because of hash collisions, but
+ * never too low. Memory use is fixed by the sketch width and the number of tracked hot keys, regardless of how
+ * many distinct keys are accessed.
+ * <p>
+ * Once the number of recorded accesses reaches ten times the sketch width, all counters are halved, so keys which
+ * stop being accessed cool down again.
+ * <p>
+ * Recording is lock free for keys which are neither hot nor about to become hot. The hot key set is only locked
+ * when a key's estimate exceeds the estimate of the coldest hot key.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class HotKeyTracker {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final AtomicIntegerArray counters;
+    private final int widthMask;
+    private final int topK;
+    private final long sampleSize;
+    private final LongAdder samples = new LongAdder();
+    private final Map<String, Long> hotKeys;
+
+    // Estimate a key needs to exceed to become hot, the estimate of the coldest hot key once the set is full.
+    // Estimates of hot keys grow without updating it, so it is only a lower bound checked again by promote.
+    private volatile long threshold;
+
+    /**
+     * Constructs a {@code HotKeyTracker} with a sketch of 4096 counters per row.
+     *
+     * @param topK the number of hot keys to track
+     */
+    public HotKeyTracker(int topK) {
+        this(topK, 4096);
+    }
+
+    /**
+     * Constructs a {@code HotKeyTracker}. Wider sketches produce fewer collisions, a width of about ten times the
+     * number of frequently accessed keys is a good start.
+     *
+     * @param topK  the number of hot keys to track
+     * @param width the number of counters per row, rounded up to a power of two
+     */
+    public HotKeyTracker(int topK, int width) {
+        if (topK <= 0) throw new IllegalArgumentException("The number of hot keys has to be positive");
+        if (width <= 0) throw new IllegalArgumentException("The sketch width has to be positive");
+
+        int roundedWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.counters = new AtomicIntegerArray(DEPTH * roundedWidth);
+        this.widthMask = roundedWidth - 1;
+        this.topK = topK;
+        this.sampleSize = 10L * roundedWidth;
+        this.hotKeys = new ConcurrentHashMap<>(topK * 4 / 3 + 1);
+    }
+
+    /**
+     * Records an access of the given key.
+     *
+     * @param key the accessed key
+     */
+    public void record(String key) {
+        int hash = spread(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int count = counters.incrementAndGet(index(hash, row));
+            estimate = Math.min(estimate, count);
+        }
+
+        if (hotKeys.replace(key, estimate) == null && estimate > threshold) {
+            promote(key, estimate);
+        }
+
+        samples.increment();
+        // Summing the adder is comparatively expensive, a sampled check is precise enough
+        if (ThreadLocalRandom.current().nextInt(64) == 0 && samples.sum() >= sampleSize) {
+            age();
+        }
+    }
+
+    /**
+     * Returns the estimated number of accesses of the given key since the counters were last halved.
+     *
+     * @param key the key
+     * @return the estimated access count, never lower than the actual count
+     */
+    public long estimate(String key) {
+        int hash = spread(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Checks whether the given key is currently one of the hot keys.
+     *
+     * @param key the key
+     * @return true if the key is hot
+     */
+    public boolean isHot(String key) {
+        return hotKeys.containsKey(key);
+    }
+
+    /**
+     * Returns the hottest keys with their estimated access counts, hottest first.
+     *
+     * @param limit the maximum number of keys to return
+     * @return the hottest keys
+     */
+    public List<Map.Entry<String, Long>> getHotKeys(int limit) {
+        List<Map.Entry<String, Long>> result = new ArrayList<>(hotKeys.size());
+        hotKeys.forEach((key, estimate) -> result.add(Map.entry(key, estimate)));
+        result.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Resets all counters and forgets the hot keys.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+        hotKeys.clear();
+        samples.reset();
+        threshold = 0;
+    }
+
+    private synchronized void promote(String key, long estimate) {
+        if (hotKeys.containsKey(key) || estimate <= threshold) return;
+
+        if (hotKeys.size() >= topK) {
+            String coldest = null;
+            long coldestEstimate = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : hotKeys.entrySet()) {
+                if (entry.getValue() < coldestEstimate) {
+                    coldest = entry.getKey();
+                    coldestEstimate = entry.getValue();
+                }
+            }
+            // The threshold lags behind hot keys whose estimates grew since, only the actual coldest one counts
+            if (estimate <= coldestEstimate) {
+                threshold = coldestEstimate;
+                return;
+            }
+            hotKeys.remove(coldest);
+        }
+        hotKeys.put(key, estimate);
+        updateThreshold();
+    }
+
+    private synchronized void age() {
+        // Another thread may have aged the counters while this one waited for the lock
+        if (samples.sum() < sampleSize) return;
+
+        for (int i = 0; i < counters.length(); i++) {
+            int count;
+            do {
+                count = counters.get(i);
+            } while (!counters.compareAndSet(i, count, count >>> 1));
+        }
+        hotKeys.replaceAll((key, estimate) -> estimate >>> 1);
+        samples.add(-sampleSize / 2);
+        updateThreshold();
+    }
+
+    private void updateThreshold() {
+        if (hotKeys.size() < topK) {
+            threshold = 0;
+            return;
+        }
+        long coldest = Long.MAX_VALUE;
+        for (long estimate : hotKeys.values()) {
+            coldest = Math.min(coldest, estimate);
+        }
+        threshold = coldest;
+    }
+
+    private int index(int hash, int row) {
+        int rowHash = hash * SEEDS[row];
+        return row * (widthMask + 1) + ((rowHash ^ (rowHash >>> 16)) & widthMask);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return hash ^ (hash >>> 16);
+    }
+
+}
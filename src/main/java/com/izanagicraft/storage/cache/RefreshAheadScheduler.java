@@ -0,0 +1,200 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * data-storage; com.izanagicraft.storage.cache:RefreshAheadScheduler
+ * <p>
+ * Schedules asynchronous reloads of cache entries which are read shortly before they expire, so readers keep
+ * getting the current value while a fresh one is loaded in the background.
+ * <p>
+ * Reloads run on a bounded executor and are deduplicated per key: while a reload of a key is queued or running,
+ * further requests for the same key are ignored. When the queue is full, requests are dropped and the entry
+ * simply expires as it would without refresh-ahead.
+ * <p>
+ * A reload does not move the expiration time unless the key was written again in the meantime, so the entry
+ * stays due. Reloads of the same expiration time are therefore not repeated within a cooldown, instead of reloading
+ * the key continuously until it expires. Writes by other clients are still picked up after the cooldown. Expiration
+ * times within a second of each other count as the same, as those derived from a relative TTL differ by the time
+ * the reload took.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class RefreshAheadScheduler implements AutoCloseable {
+
+    private static final int MIN_PRUNE_THRESHOLD = 1024;
+    private static final long EXPIRATION_TOLERANCE_MILLIS = 1000;
+
+    private final long windowMillis;
+    private final long cooldownMillis;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, CompletedReload> completed = new ConcurrentHashMap<>();
+    private volatile int pruneThreshold = MIN_PRUNE_THRESHOLD;
+
+    /**
+     * Constructs a {@code RefreshAheadScheduler} with a cooldown of a quarter of the window.
+     *
+     * @param window        the time before expiration in which a read triggers a reload
+     * @param threads       the number of threads performing reloads
+     * @param queueCapacity the maximum number of queued reloads
+     */
+    public RefreshAheadScheduler(Duration window, int threads, int queueCapacity) {
+        this(window, window.dividedBy(4), threads, queueCapacity);
+    }
+
+    /**
+     * Constructs a {@code RefreshAheadScheduler}.
+     *
+     * @param window        the time before expiration in which a read triggers a reload
+     * @param cooldown      the time after a reload in which the same expiration time is not reloaded again
+     * @param threads       the number of threads performing reloads
+     * @param queueCapacity the maximum number of queued reloads
+     */
+    public RefreshAheadScheduler(Duration window, Duration cooldown, int threads, int queueCapacity) {
+        this.windowMillis = window.toMillis();
+        this.cooldownMillis = cooldown.toMillis();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "data-storage-refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Checks whether an entry expiring at the given time is within the refresh window.
+     *
+     * @param expiresAtMillis the expiration time of the entry in epoch milliseconds
+     * @return true if the entry should be reloaded
+     */
+    public boolean isDue(long expiresAtMillis) {
+        return expiresAtMillis - System.currentTimeMillis() <= windowMillis;
+    }
+
+    /**
+     * Schedules a reload of the given key, unless a reload of it is already pending or the same expiration time was
+     * reloaded within the cooldown.
+     *
+     * @param key             the key to reload
+     * @param expiresAtMillis the expiration time of the entry to reload in epoch milliseconds
+     * @param reload          the task reloading the key
+     * @return true if the reload was scheduled, false if one is pending, cooling down or the queue is full
+     */
+    public boolean schedule(String key, long expiresAtMillis, Runnable reload) {
+        CompletedReload last = completed.get(key);
+        if (last != null && Math.abs(last.expiresAtMillis - expiresAtMillis) <= EXPIRATION_TOLERANCE_MILLIS
+                && System.currentTimeMillis() - last.completedAtMillis < cooldownMillis) {
+            return false;
+        }
+        if (!inFlight.add(key)) return false;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    reload.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace(); // The entry expires normally if the reload fails
+                } finally {
+                    completed.put(key, new CompletedReload(expiresAtMillis, System.currentTimeMillis()));
+                    pruneCompleted();
+                    inFlight.remove(key);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            return false;
+        }
+    }
+
+    /**
+     * Forgets completed reloads of entries which have expired by now, once there are twice as many as after the last
+     * pruning, so keys which are no longer read do not accumulate.
+     */
+    private void pruneCompleted() {
+        if (completed.size() <= pruneThreshold) return;
+
+        long now = System.currentTimeMillis();
+        completed.values().removeIf(reload -> reload.expiresAtMillis <= now);
+        pruneThreshold = Math.max(MIN_PRUNE_THRESHOLD, completed.size() * 2);
+    }
+
+    /**
+     * @return the number of reloads which are queued or running
+     */
+    public int getPendingCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Stops the executor, pending reloads are discarded.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static final class CompletedReload {
+
+        private final long expiresAtMillis;
+        private final long completedAtMillis;
+
+        private CompletedReload(long expiresAtMillis, long completedAtMillis) {
+            this.expiresAtMillis = expiresAtMillis;
+            this.completedAtMillis = completedAtMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * data-storage; com.izanagicraft.storage.cache:TimerWheel
+ * <p>
+ * A hashed timer wheel tracking when keys expire. Keys are placed into the slot of the tick their expiration
+ * falls into, so advancing the wheel only visits the slots of the ticks passed since the last advance instead of
+ * all keys. Keys due in a later rotation of the wheel stay in their slot until then.
+ * <p>
+ * The wheel is only a hint: a key is reported every time it was scheduled, and the caller has to check whether the
+ * key really expired, since it may have been stored again with another expiration time meanwhile.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class TimerWheel {
+
+    private final long tickMillis;
+    private final Slot[] slots;
+    private volatile long lastTick;
+
+    /**
+     * Constructs a {@code TimerWheel}.
+     *
+     * @param tick      the resolution of the wheel
+     * @param slotCount the number of slots, a rotation of the wheel takes {@code tick * slotCount}
+     */
+    public TimerWheel(Duration tick, int slotCount) {
+        if (tick.toMillis() <= 0) throw new IllegalArgumentException("tick must be at least 1ms");
+        if (slotCount <= 0) throw new IllegalArgumentException("slotCount must be positive");
+
+        this.tickMillis = tick.toMillis();
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis - 1;
+    }
+
+    /**
+     * Schedules a key to be reported once the given time has passed.
+     *
+     * @param key             the key
+     * @param expiresAtMillis the expiration time in epoch milliseconds
+     */
+    public void schedule(String key, long expiresAtMillis) {
+        // Keys due in a tick which was already visited go into the next one, instead of waiting for a full rotation
+        long tick = Math.max(expiresAtMillis / tickMillis, lastTick + 1);
+        slots[(int) (tick % slots.length)].keys.put(key, expiresAtMillis);
+    }
+
+    /**
+     * Visits the slots of all ticks passed since the last call and reports the keys whose expiration time passed.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired   receives the expired keys
+     * @return the number of reported keys
+     */
+    public synchronized int advance(long nowMillis, Consumer<String> expired) {
+        long nowTick = nowMillis / tickMillis;
+        long fromTick = Math.max(lastTick + 1, nowTick - slots.length + 1);
+
+        int reported = 0;
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            Map<String, Long> keys = slots[(int) (tick % slots.length)].keys;
+            for (Map.Entry<String, Long> entry : keys.entrySet()) {
+                if (entry.getValue() <= nowMillis && keys.remove(entry.getKey(), entry.getValue())) {
+                    expired.accept(entry.getKey());
+                    reported++;
+                }
+            }
+        }
+        if (nowTick > lastTick) {
+            lastTick = nowTick;
+        }
+        return reported;
+    }
+
+    /**
+     * @return the number of scheduled keys
+     */
+    public int size() {
+        int size = 0;
+        for (Slot slot : slots) {
+            size += slot.keys.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all scheduled keys.
+     */
+    public void clear() {
+        for (Slot slot : slots) {
+            slot.keys.clear();
+        }
+    }
+
+    private static final class Slot {
+
+        private final Map<String, Long> keys = new ConcurrentHashMap<>();
+
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.index;
+
+import com.izanagicraft.storage.utils.StripedLock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+
+/**
+ * data-storage; com.izanagicraft.storage.index:FileIndexStore
+ * <p>
+ * An implementation of the {@link IndexStore} interface that keeps the indexes on disk. Every key of a value is an
+ * empty marker file at {@code <index>/<value>/<key>}, so a lookup only lists a single directory. The value of every
+ * key is kept in {@code <index>/.keys/<key>}, to find the marker to delete when the value changes. All names are
+ * URL-encoded and therefore limited by the maximum file name length of the file system.
+ * <p>
+ * Updates of the same key are serialized by striped locks. A new marker is created before the previous one is
+ * deleted, so an interrupted update can leave a stale marker behind, but never loses the current one.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class FileIndexStore implements IndexStore {
+
+    private static final String KEYS_DIRECTORY = ".keys";
+
+    private final Path baseDirectory;
+    private final StripedLock locks = new StripedLock(64);
+
+    /**
+     * Constructs a {@code FileIndexStore} with the specified base path.
+     * If the directory specified by the base path does not exist, it will be created.
+     *
+     * @param baseDirectoryPath the base path where the indexes will be stored, must not be shared with a repository
+     */
+    public FileIndexStore(String baseDirectoryPath) {
+        this(new File(baseDirectoryPath));
+    }
+
+    /**
+     * Constructs a {@code FileIndexStore} with the specified base directory.
+     * If the directory does not exist, it will be created.
+     *
+     * @param baseDirectory the base directory where the indexes will be stored, must not be shared with a repository
+     */
+    public FileIndexStore(File baseDirectory) {
+        this.baseDirectory = baseDirectory.toPath();
+        if (!baseDirectory.exists()) {
+            baseDirectory.mkdirs();
+        }
+    }
+
+    @Override
+    public void put(String index, String key, String value) {
+        Path indexDirectory = baseDirectory.resolve(encode(index));
+        Path reversePath = indexDirectory.resolve(KEYS_DIRECTORY).resolve(encode(key));
+        Lock lock = locks.get(index + ':' + key);
+        lock.lock();
+        try {
+            String previous = readValue(reversePath);
+            if (value.equals(previous)) return;
+
+            Path marker = indexDirectory.resolve(encode(value)).resolve(encode(key));
+            Files.createDirectories(marker.getParent());
+            if (!Files.exists(marker)) {
+                Files.createFile(marker);
+            }
+            Files.createDirectories(reversePath.getParent());
+            Files.writeString(reversePath, value);
+            if (previous != null) {
+                Files.deleteIfExists(indexDirectory.resolve(encode(previous)).resolve(encode(key)));
+            }
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String index, String key) {
+        Path indexDirectory = baseDirectory.resolve(encode(index));
+        Path reversePath = indexDirectory.resolve(KEYS_DIRECTORY).resolve(encode(key));
+        Lock lock = locks.get(index + ':' + key);
+        lock.lock();
+        try {
+            String previous = readValue(reversePath);
+            if (previous == null) return;
+
+            Files.deleteIfExists(indexDirectory.resolve(encode(previous)).resolve(encode(key)));
+            Files.deleteIfExists(reversePath);
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Stream<String> find(String index, String value) {
+        Path valueDirectory = baseDirectory.resolve(encode(index)).resolve(encode(value));
+        if (!Files.isDirectory(valueDirectory)) return Stream.empty();
+
+        try {
+            return Files.list(valueDirectory).map(path -> decode(path.getFileName().toString()));
+        } catch (NoSuchFileException e) {
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try (Stream<Path> paths = Files.walk(baseDirectory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .filter(path -> !path.equals(baseDirectory))
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    private static String readValue(Path reversePath) throws IOException {
+        try {
+            return Files.readString(reversePath);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a name into a file name, escaping the dots which {@link URLEncoder} keeps, so no encoded name is
+     * {@code "."}, {@code ".."} or collides with {@value #KEYS_DIRECTORY}.
+     */
+    private static String encode(String name) {
+        if (name.isEmpty()) return "%";
+        return URLEncoder.encode(name, StandardCharsets.UTF_8).replace(".", "%2E").replace("*", "%2A");
+    }
+
+    private static String decode(String fileName) {
+        if (fileName.equals("%")) return "";
+        return URLDecoder.decode(fileName, StandardCharsets.UTF_8);
+    }
+
+}
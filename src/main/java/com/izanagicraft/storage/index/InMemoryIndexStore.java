@@ -0,0 +1,127 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.index;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * data-storage; com.izanagicraft.storage.index:InMemoryIndexStore
+ * <p>
+ * An implementation of the {@link IndexStore} interface that keeps the indexes in concurrent maps. Every index maps
+ * its values to sets of keys and, to move a key when its value changes, the keys back to their values.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class InMemoryIndexStore implements IndexStore {
+
+    private final Map<String, Index> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String index, String key, String value) {
+        indexes.computeIfAbsent(index, name -> new Index()).put(key, value);
+    }
+
+    @Override
+    public void remove(String index, String key) {
+        Index entries = indexes.get(index);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public Stream<String> find(String index, String value) {
+        Index entries = indexes.get(index);
+        if (entries == null) return Stream.empty();
+        Set<String> keys = entries.keysByValue.get(value);
+        return keys == null ? Stream.empty() : keys.stream();
+    }
+
+    @Override
+    public void clear() {
+        indexes.clear();
+    }
+
+    private static class Index {
+
+        private final Map<String, Set<String>> keysByValue = new ConcurrentHashMap<>();
+        private final Map<String, String> valuesByKey = new ConcurrentHashMap<>();
+
+        void put(String key, String value) {
+            // Computing the reverse mapping serializes all updates of the key
+            valuesByKey.compute(key, (k, previous) -> {
+                if (previous != null && !previous.equals(value)) {
+                    removeKey(previous, key);
+                }
+                keysByValue.compute(value, (v, keys) -> {
+                    if (keys == null) keys = ConcurrentHashMap.newKeySet();
+                    keys.add(key);
+                    return keys;
+                });
+                return value;
+            });
+        }
+
+        void remove(String key) {
+            valuesByKey.computeIfPresent(key, (k, previous) -> {
+                removeKey(previous, key);
+                return null;
+            });
+        }
+
+        private void removeKey(String value, String key) {
+            // Empty sets are dropped, so values which are no longer used do not leak
+            keysByValue.computeIfPresent(value, (v, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+        }
+
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.index;
+
+import com.izanagicraft.storage.repository.DataRepository;
+import com.izanagicraft.storage.repository.ScannableDataRepository;
+import com.izanagicraft.storage.utils.StripedLock;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * data-storage; com.izanagicraft.storage.index:IndexedDataRepository
+ * <p>
+ * A {@link DataRepository} which maintains secondary indexes on attributes of the stored objects, so they can be
+ * queried by attribute through {@link #findBy(String, Object)} instead of scanning the whole repository. Every index
+ * is declared with a function extracting the attribute from an object, its {@link Object#toString()} value is
+ * indexed. Objects whose attribute is null are not indexed.
+ * <p>
+ * The indexes are updated after every write and removal through this repository, writes of the same key are
+ * serialized by striped locks so the index always ends up with the value of the last write. Writes bypassing this
+ * repository and expired values are not reflected, {@link #findBy(String, Object)} therefore loads the objects of
+ * the indexed keys and drops those whose attribute no longer matches, and {@link #rebuildIndexes()} restores
+ * the indexes from the stored objects.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class IndexedDataRepository<T> implements DataRepository<T>, AutoCloseable {
+
+    private final DataRepository<T> repository;
+    private final IndexStore indexStore;
+    private final Map<String, Function<? super T, ?>> indexes = new ConcurrentHashMap<>();
+    private final StripedLock locks = new StripedLock(64);
+    private int batchSize = 256;
+
+    /**
+     * Constructs an {@code IndexedDataRepository} keeping its indexes in memory.
+     *
+     * @param repository the repository storing the objects
+     */
+    public IndexedDataRepository(DataRepository<T> repository) {
+        this(repository, new InMemoryIndexStore());
+    }
+
+    /**
+     * Constructs an {@code IndexedDataRepository} keeping its indexes in the given store.
+     *
+     * @param repository the repository storing the objects
+     * @param indexStore the store of the indexes, like a {@link RedisIndexStore} for a Redis repository or a
+     *                   {@link FileIndexStore} for a file repository
+     */
+    public IndexedDataRepository(DataRepository<T> repository, IndexStore indexStore) {
+        this.repository = repository;
+        this.indexStore = indexStore;
+    }
+
+    /**
+     * Declares an index. Objects stored before are only indexed by {@link #rebuildIndexes()}, or by the index store
+     * if it persisted the index.
+     *
+     * @param name      the name of the index
+     * @param extractor the function extracting the indexed attribute from an object
+     */
+    public void addIndex(String name, Function<? super T, ?> extractor) {
+        indexes.put(name, extractor);
+    }
+
+    /**
+     * Queries the keys of all objects whose attribute had the given value when they were indexed.
+     * The returned stream may hold resources like open directories or connections and should be closed after use.
+     *
+     * @param index the name of the index
+     * @param value the value of the attribute
+     * @return a stream of the matching keys
+     * @throws IllegalArgumentException if the index was not declared
+     */
+    public Stream<String> findKeysBy(String index, Object value) {
+        extractor(index);
+        return indexStore.find(index, value.toString());
+    }
+
+    /**
+     * Queries all stored objects whose attribute has the given value. The objects are loaded lazily, at most
+     * {@link #setBatchSize(int) batchSize} at a time, using {@link DataRepository#getAllData(Collection)}.
+     * The returned stream may hold resources like open directories or connections and should be closed after use.
+     *
+     * @param index the name of the index
+     * @param value the value of the attribute
+     * @return a stream of the matching objects
+     * @throws IllegalArgumentException if the index was not declared
+     */
+    public Stream<T> findBy(String index, Object value) {
+        Function<? super T, ?> extractor = extractor(index);
+        String indexValue = value.toString();
+        Stream<String> keys = indexStore.find(index, indexValue);
+        return batches(keys.iterator())
+                .flatMap(batch -> repository.getAllData(batch).values().stream())
+                .filter(found -> indexValue.equals(toIndexValue(extractor.apply(found))))
+                .onClose(keys::close);
+    }
+
+    /**
+     * Clears the indexes and indexes all stored objects again.
+     *
+     * @throws UnsupportedOperationException if the repository is not a {@link ScannableDataRepository}
+     */
+    public void rebuildIndexes() {
+        if (!(repository instanceof ScannableDataRepository<T> scannable)) {
+            throw new UnsupportedOperationException("Rebuilding indexes requires a ScannableDataRepository");
+        }
+
+        indexStore.clear();
+        try (Stream<String> keys = scannable.scanKeys("")) {
+            batches(keys.iterator()).forEach(batch -> repository.getAllData(batch).forEach((key, value) -> {
+                Lock lock = locks.get(key);
+                lock.lock();
+                try {
+                    updateIndexes(key, value);
+                } finally {
+                    lock.unlock();
+                }
+            }));
+        }
+    }
+
+    @Override
+    public T getData(String key) {
+        return repository.getData(key);
+    }
+
+    @Override
+    public T storeData(String key, T value) {
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            T stored = repository.storeData(key, value);
+            updateIndexes(key, value);
+            return stored;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isStored(String key) {
+        return repository.isStored(key);
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            boolean removed = repository.removeData(key);
+            for (String index : indexes.keySet()) {
+                indexStore.remove(index, key);
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearStorage() {
+        repository.clearStorage();
+        indexStore.clear();
+    }
+
+    @Override
+    public Map<String, T> getAllData(Collection<String> keys) {
+        return repository.getAllData(keys);
+    }
+
+    /**
+     * Stores each of the specified entries in a single call to the repository, holding the locks of all keys.
+     *
+     * @param data the keys and the data to store with them
+     */
+    @Override
+    public void storeAllData(Map<String, T> data) {
+        // Stripes are locked in ascending order, so concurrent batches cannot deadlock
+        int[] stripes = data.keySet().stream().mapToInt(locks::stripeOf).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                locks.getLock(stripe).lock();
+                locked++;
+            }
+            repository.storeAllData(data);
+            data.forEach(this::updateIndexes);
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                locks.getLock(stripes[i]).unlock();
+            }
+        }
+    }
+
+    private void updateIndexes(String key, T value) {
+        for (Map.Entry<String, Function<? super T, ?>> index : indexes.entrySet()) {
+            String indexValue = toIndexValue(index.getValue().apply(value));
+            if (indexValue != null) {
+                indexStore.put(index.getKey(), key, indexValue);
+            } else {
+                indexStore.remove(index.getKey(), key);
+            }
+        }
+    }
+
+    private Function<? super T, ?> extractor(String index) {
+        Function<? super T, ?> extractor = indexes.get(index);
+        if (extractor == null) throw new IllegalArgumentException("Unknown index: " + index);
+        return extractor;
+    }
+
+    private static String toIndexValue(Object attribute) {
+        return attribute == null ? null : attribute.toString();
+    }
+
+    private Stream<List<String>> batches(Iterator<String> keys) {
+        int size = batchSize;
+        Iterator<List<String>> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                List<String> batch = new ArrayList<>(size);
+                while (batch.size() < size && keys.hasNext()) {
+                    batch.add(keys.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return the underlying repository
+     */
+    public DataRepository<T> getRepository() {
+        return repository;
+    }
+
+    /**
+     * Sets the maximum number of objects loaded by a single call to the repository.
+     *
+     * @param batchSize the maximum number of objects per batch
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Closes the repository and the index store, if they are {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        closeQuietly(repository);
+        closeQuietly(indexStore);
+    }
+
+    private static void closeQuietly(Object resource) {
+        if (!(resource instanceof AutoCloseable closeable)) return;
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+}
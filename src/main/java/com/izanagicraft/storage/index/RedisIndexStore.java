@@ -0,0 +1,207 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.index;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * data-storage; com.izanagicraft.storage.index:RedisIndexStore
+ * <p>
+ * An implementation of the {@link IndexStore} interface that keeps every value of an index as a Redis set of keys,
+ * named {@code <prefix><index>:<value>}, and the values of the keys in a hash named {@code <prefix><index>}.
+ * Moving a key to another value is a single {@code MULTI} transaction, so concurrent readers never see a key under
+ * two values. Lookups iterate the set with {@code SSCAN} and do not block Redis for large sets.
+ * <p>
+ * Like the Redis repositories, an instance uses a single connection and is not thread-safe.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class RedisIndexStore implements IndexStore, AutoCloseable {
+
+    private static final int SCAN_COUNT = 256;
+
+    private final Jedis jedis;
+    private final String prefix;
+
+    /**
+     * Constructs a {@code RedisIndexStore} with the specified Redis server connection string, storing its sets and
+     * hashes under the prefix {@code "index:"}.
+     *
+     * @param connection the Redis server connection string
+     */
+    public RedisIndexStore(String connection) {
+        this(connection, "index:");
+    }
+
+    /**
+     * Constructs a {@code RedisIndexStore} with the specified Redis server connection string and key prefix.
+     *
+     * @param connection the Redis server connection string
+     * @param prefix     the prefix of all Redis keys used by the indexes, must not be a prefix of stored keys, use
+     *                   a separate database if the repository scans all keys
+     */
+    public RedisIndexStore(String connection, String prefix) {
+        this.jedis = new Jedis(connection);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void put(String index, String key, String value) {
+        try {
+            String reverseKey = prefix + index;
+            String previous = jedis.hget(reverseKey, key);
+            if (value.equals(previous)) return;
+
+            try (Transaction transaction = jedis.multi()) {
+                if (previous != null) {
+                    transaction.srem(setKey(index, previous), key);
+                }
+                transaction.sadd(setKey(index, value), key);
+                transaction.hset(reverseKey, key, value);
+                transaction.exec();
+            }
+        } catch (JedisException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    @Override
+    public void remove(String index, String key) {
+        try {
+            String reverseKey = prefix + index;
+            String previous = jedis.hget(reverseKey, key);
+            if (previous == null) return;
+
+            try (Transaction transaction = jedis.multi()) {
+                transaction.srem(setKey(index, previous), key);
+                transaction.hdel(reverseKey, key);
+                transaction.exec();
+            }
+        } catch (JedisException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    @Override
+    public Stream<String> find(String index, String value) {
+        String setKey = setKey(index, value);
+        return scan(cursor -> jedis.sscan(setKey, cursor, new ScanParams().count(SCAN_COUNT)));
+    }
+
+    /**
+     * Removes all sets and hashes under the prefix of this store.
+     */
+    @Override
+    public void clear() {
+        try (Stream<String> keys = scan(cursor -> jedis.scan(cursor, new ScanParams().match(escapeGlob(prefix) + "*").count(SCAN_COUNT)))) {
+            // Collect first, deleting while scanning may let SCAN skip keys when Redis rehashes
+            List<String> redisKeys = keys.toList();
+            for (String redisKey : redisKeys) {
+                jedis.del(redisKey);
+            }
+        } catch (JedisException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    private String setKey(String index, String value) {
+        return prefix + index + ':' + value;
+    }
+
+    private static Stream<String> scan(Function<String, ScanResult<String>> command) {
+        Iterator<String> iterator = new Iterator<>() {
+            private String cursor = ScanParams.SCAN_POINTER_START;
+            private Iterator<String> page = Collections.emptyIterator();
+            private boolean complete;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !complete) {
+                    ScanResult<String> result = command.apply(cursor);
+                    cursor = result.getCursor();
+                    complete = result.isCompleteIteration();
+                    page = result.getResult().iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return page.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false);
+    }
+
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
+}
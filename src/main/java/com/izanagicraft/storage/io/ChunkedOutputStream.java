@@ -0,0 +1,183 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * data-storage; com.izanagicraft.storage.io:ChunkedOutputStream
+ * <p>
+ * An {@link OutputStream} which collects the written bytes into fixed-size chunks and hands every full chunk to
+ * {@link #writeChunk(int, byte[], int)}, so at most one chunk is held in memory whatever the size of the value.
+ * Closing the stream writes the last, possibly shorter chunk and calls {@link #complete(int, long)}.
+ * If writing a chunk fails, or the writer gives up through {@link #abort()}, {@link #discard(int)} is called
+ * instead.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public abstract class ChunkedOutputStream extends OutputStream {
+
+    private final byte[] chunk;
+    private int count;
+    private int chunkCount;
+    private long size;
+    private boolean failed;
+    private boolean closed;
+
+    /**
+     * Constructs a {@code ChunkedOutputStream} with the given chunk size.
+     *
+     * @param chunkSize the size of every chunk but the last in bytes
+     */
+    protected ChunkedOutputStream(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        this.chunk = new byte[chunkSize];
+    }
+
+    /**
+     * Writes a chunk of the value. The array is reused for the next chunk once this method returns.
+     *
+     * @param index  the index of the chunk, starting at 0
+     * @param chunk  the array holding the chunk
+     * @param length the number of bytes of the chunk, only the last chunk may be shorter than the chunk size
+     * @throws IOException if the chunk cannot be written
+     */
+    protected abstract void writeChunk(int index, byte[] chunk, int length) throws IOException;
+
+    /**
+     * Called when the stream is closed after all chunks were written.
+     *
+     * @param chunkCount the number of chunks written
+     * @param size       the size of the value in bytes
+     * @throws IOException if the value cannot be completed
+     */
+    protected abstract void complete(int chunkCount, long size) throws IOException;
+
+    /**
+     * Called instead of {@link #complete(int, long)} when the stream is closed after writing a chunk failed.
+     *
+     * @param chunkCount the number of chunks written successfully
+     * @throws IOException if cleaning up fails
+     */
+    protected void discard(int chunkCount) throws IOException {
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        chunk[count++] = (byte) b;
+        if (count == chunk.length) flushChunk();
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        ensureOpen();
+        while (length > 0) {
+            int n = Math.min(length, chunk.length - count);
+            System.arraycopy(bytes, offset, chunk, count, n);
+            count += n;
+            offset += n;
+            length -= n;
+            if (count == chunk.length) flushChunk();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        if (!failed && count > 0) {
+            try {
+                flushChunk();
+            } catch (IOException e) {
+                discard(chunkCount);
+                throw e;
+            }
+        }
+        if (failed) {
+            discard(chunkCount);
+        } else {
+            complete(chunkCount, size);
+        }
+    }
+
+    /**
+     * Closes the stream without completing the value, calling {@link #discard(int)} instead of
+     * {@link #complete(int, long)}. Writers call this when producing the value failed partway, so the incomplete
+     * value never replaces a stored one. Does nothing if the stream is already closed.
+     *
+     * @throws IOException if cleaning up fails
+     */
+    public void abort() throws IOException {
+        if (closed) return;
+        failed = true;
+        close();
+    }
+
+    private void flushChunk() throws IOException {
+        try {
+            writeChunk(chunkCount, chunk, count);
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        chunkCount++;
+        size += count;
+        count = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        if (failed) throw new IOException("Writing a previous chunk failed");
+    }
+
+}
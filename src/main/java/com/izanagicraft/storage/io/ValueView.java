@@ -0,0 +1,113 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * data-storage; com.izanagicraft.storage.io:ValueView
+ * <p>
+ * A lazy handle to a stored value. The serialized bytes can be accessed as a read-only {@link ByteBuffer} or
+ * streamed without deserializing them, e.g. to serve or proxy large values; the value itself is only
+ * deserialized when {@link #get()} is called.
+ *
+ * @param <T> the type of the value
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public interface ValueView<T> {
+
+    /**
+     * @return the size of the serialized value in bytes
+     * @throws IOException if the value has to be serialized first and serialization fails
+     */
+    long size() throws IOException;
+
+    /**
+     * Returns a read-only buffer over the serialized value. Every call returns an independent buffer positioned
+     * at the start of the value.
+     *
+     * @return a buffer over the serialized value
+     * @throws IOException if the value has to be serialized first and serialization fails
+     */
+    ByteBuffer asByteBuffer() throws IOException;
+
+    /**
+     * Opens a stream over the serialized value.
+     *
+     * @return a new stream over the serialized value
+     * @throws IOException if the value has to be serialized first and serialization fails
+     */
+    default InputStream openStream() throws IOException {
+        return new ByteBufferInputStream(asByteBuffer());
+    }
+
+    /**
+     * Writes the serialized value to the given stream.
+     *
+     * @param out the stream to write to, it is not closed
+     * @throws IOException if writing fails
+     */
+    default void transferTo(OutputStream out) throws IOException {
+        try (InputStream in = openStream()) {
+            in.transferTo(out);
+        }
+    }
+
+    /**
+     * Returns the value, deserializing it on the first call.
+     *
+     * @return the value
+     * @throws IOException            if an I/O error occurs during deserialization
+     * @throws ClassNotFoundException if the class of the value cannot be found
+     */
+    T get() throws IOException, ClassNotFoundException;
+
+}
@@ -0,0 +1,242 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.metrics;
+
+import javax.management.AttributeList;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * data-storage; com.izanagicraft.storage.metrics:JmxMetricsExporter
+ * <p>
+ * Exposes repository metrics as MXBeans named {@code com.izanagicraft.storage:type=Repository,name=<name>}.
+ * Values are computed when JMX reads them, nothing is recorded in the background. Attributes read together, as
+ * monitoring tools do, are taken from a single snapshot, so they are consistent with each other.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class JmxMetricsExporter {
+
+    private static final String DOMAIN = "com.izanagicraft.storage";
+
+    private final MBeanServer server;
+
+    /**
+     * Constructs a {@code JmxMetricsExporter} registering beans at the platform {@link MBeanServer}.
+     */
+    public JmxMetricsExporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Constructs a {@code JmxMetricsExporter} registering beans at the given {@link MBeanServer}.
+     *
+     * @param server the server to register the beans at
+     */
+    public JmxMetricsExporter(MBeanServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Registers the metrics of a repository, replacing any bean registered under the same name.
+     *
+     * @param name       the name of the bean
+     * @param repository the repository whose metrics to expose
+     * @throws IllegalArgumentException if the name is not a valid JMX name or the bean cannot be registered
+     */
+    public void register(String name, InstrumentedRepository repository) {
+        try {
+            ObjectName objectName = objectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(new Bean(repository.getMetrics()), objectName);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Could not register metrics bean " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters the bean registered under the given name, if any.
+     *
+     * @param name the name of the bean
+     */
+    public void unregister(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Could not unregister metrics bean " + name, e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Repository,name=" + ObjectName.quote(name));
+    }
+
+    private static final class Bean extends StandardMBean implements RepositoryMetricsMXBean {
+
+        private final RepositoryMetrics metrics;
+        private final ThreadLocal<MetricsSnapshot> current = new ThreadLocal<>();
+
+        private Bean(RepositoryMetrics metrics) {
+            super(RepositoryMetricsMXBean.class, true);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            current.set(metrics.snapshot());
+            try {
+                return super.getAttributes(attributes);
+            } finally {
+                current.remove();
+            }
+        }
+
+        /**
+         * @return the snapshot of the attributes being read together, or a new one for a single attribute
+         */
+        private MetricsSnapshot snapshot() {
+            MetricsSnapshot snapshot = current.get();
+            return snapshot != null ? snapshot : metrics.snapshot();
+        }
+
+        @Override
+        public long getReads() {
+            return snapshot().getReads();
+        }
+
+        @Override
+        public long getWrites() {
+            return snapshot().getWrites();
+        }
+
+        @Override
+        public long getHits() {
+            return snapshot().getHits();
+        }
+
+        @Override
+        public long getMisses() {
+            return snapshot().getMisses();
+        }
+
+        @Override
+        public double getHitRatio() {
+            return snapshot().getHitRatio();
+        }
+
+        @Override
+        public long getErrors() {
+            return snapshot().getErrors();
+        }
+
+        @Override
+        public long getBytesRead() {
+            return snapshot().getBytesRead();
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return snapshot().getBytesWritten();
+        }
+
+        @Override
+        public long getReadLatencyP50() {
+            return snapshot().getReadLatency().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getReadLatencyP99() {
+            return snapshot().getReadLatency().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getReadLatencyP999() {
+            return snapshot().getReadLatency().getValueAtPercentile(99.9);
+        }
+
+        @Override
+        public long getReadLatencyMax() {
+            return snapshot().getReadLatency().getMax();
+        }
+
+        @Override
+        public long getWriteLatencyP50() {
+            return snapshot().getWriteLatency().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getWriteLatencyP99() {
+            return snapshot().getWriteLatency().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getWriteLatencyP999() {
+            return snapshot().getWriteLatency().getValueAtPercentile(99.9);
+        }
+
+        @Override
+        public long getWriteLatencyMax() {
+            return snapshot().getWriteLatency().getMax();
+        }
+
+        @Override
+        public void reset() {
+            metrics.reset();
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.metrics;
+
+/**
+ * data-storage; com.izanagicraft.storage.metrics:MetricsSnapshot
+ * <p>
+ * An immutable, point in time copy of {@link RepositoryMetrics}.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public final class MetricsSnapshot {
+
+    private final long timestampNanos;
+    private final long reads;
+    private final long writes;
+    private final long hits;
+    private final long misses;
+    private final long errors;
+    private final long bytesRead;
+    private final long bytesWritten;
+    private final LatencyHistogram.Snapshot readLatency;
+    private final LatencyHistogram.Snapshot writeLatency;
+
+    MetricsSnapshot(long timestampNanos, long reads, long writes, long hits, long misses, long errors,
+                    long bytesRead, long bytesWritten,
+                    LatencyHistogram.Snapshot readLatency, LatencyHistogram.Snapshot writeLatency) {
+        this.timestampNanos = timestampNanos;
+        this.reads = reads;
+        this.writes = writes;
+        this.hits = hits;
+        this.misses = misses;
+        this.errors = errors;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.readLatency = readLatency;
+        this.writeLatency = writeLatency;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the snapshot was taken
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public LatencyHistogram.Snapshot getReadLatency() {
+        return readLatency;
+    }
+
+    public LatencyHistogram.Snapshot getWriteLatency() {
+        return writeLatency;
+    }
+
+    /**
+     * @return the ratio of hits to all recorded hits and misses, or 0 if neither were recorded
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Calculates the read throughput between an earlier snapshot and this one.
+     *
+     * @param previous the earlier snapshot of the same metrics
+     * @return the reads per second
+     */
+    public double getReadsPerSecond(MetricsSnapshot previous) {
+        return perSecond(reads - previous.reads, previous);
+    }
+
+    /**
+     * Calculates the write throughput between an earlier snapshot and this one.
+     *
+     * @param previous the earlier snapshot of the same metrics
+     * @return the writes per second
+     */
+    public double getWritesPerSecond(MetricsSnapshot previous) {
+        return perSecond(writes - previous.writes, previous);
+    }
+
+    private double perSecond(long delta, MetricsSnapshot previous) {
+        long elapsed = timestampNanos - previous.timestampNanos;
+        return elapsed <= 0 ? 0 : delta * 1_000_000_000.0 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+                "reads=" + reads +
+                ", writes=" + writes +
+                ", hitRatio=" + getHitRatio() +
+                ", errors=" + errors +
+                ", bytesRead=" + bytesRead +
+                ", bytesWritten=" + bytesWritten +
+                ", readP99=" + readLatency.getValueAtPercentile(99) +
+                ", writeP99=" + writeLatency.getValueAtPercentile(99) +
+                '}';
+    }
+
+}
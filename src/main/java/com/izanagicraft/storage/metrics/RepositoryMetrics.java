@@ -0,0 +1,174 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * data-storage; com.izanagicraft.storage.metrics:RepositoryMetrics
+ * <p>
+ * Collects operation counts, latencies, cache hits and misses, serialized byte sizes and errors of a repository.
+ * <p>
+ * All counters are {@link LongAdder}s and latencies go into a striped {@link LatencyHistogram}, so recording
+ * never blocks, never allocates and stays cheap under contention. It is meant to stay enabled in production.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class RepositoryMetrics {
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LatencyHistogram readLatency = new LatencyHistogram();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+
+    /**
+     * Records a read operation without measuring its latency.
+     */
+    public void recordRead() {
+        reads.increment();
+    }
+
+    /**
+     * Records a read operation.
+     *
+     * @param latencyNanos the latency of the operation in nanoseconds
+     */
+    public void recordRead(long latencyNanos) {
+        reads.increment();
+        readLatency.record(latencyNanos);
+    }
+
+    /**
+     * Records a write operation without measuring its latency.
+     */
+    public void recordWrite() {
+        writes.increment();
+    }
+
+    /**
+     * Records a write operation.
+     *
+     * @param latencyNanos the latency of the operation in nanoseconds
+     */
+    public void recordWrite(long latencyNanos) {
+        writes.increment();
+        writeLatency.record(latencyNanos);
+    }
+
+    /**
+     * Records a read which was answered by the repository (or its cache).
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a read which could not be answered by the repository (or its cache).
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Records a failed operation.
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Records the size of a serialized value which was read.
+     *
+     * @param bytes the size in bytes
+     */
+    public void recordBytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Records the size of a serialized value which was written.
+     *
+     * @param bytes the size in bytes
+     */
+    public void recordBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Takes a point in time copy of all metrics.
+     *
+     * @return the snapshot of the metrics
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(System.nanoTime(),
+                reads.sum(), writes.sum(), hits.sum(), misses.sum(), errors.sum(),
+                bytesRead.sum(), bytesWritten.sum(),
+                readLatency.snapshot(), writeLatency.snapshot());
+    }
+
+    /**
+     * Resets all metrics to zero.
+     */
+    public void reset() {
+        reads.reset();
+        writes.reset();
+        hits.reset();
+        misses.reset();
+        errors.reset();
+        bytesRead.reset();
+        bytesWritten.reset();
+        readLatency.reset();
+        writeLatency.reset();
+    }
+
+}
@@ -0,0 +1,419 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.migration;
+
+import com.izanagicraft.storage.repository.DataRepository;
+import com.izanagicraft.storage.repository.ScannableDataRepository;
+import com.izanagicraft.storage.utils.SerializationUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * data-storage; com.izanagicraft.storage.migration:DataMigration
+ * <p>
+ * Copies all data of a {@link ScannableDataRepository} into another {@link DataRepository}, e.g. from file storage
+ * to Redis or from one Redis server to another.
+ * <p>
+ * Keys are streamed from the source and grouped into batches, which are read with
+ * {@link DataRepository#getAllData(Collection)} and written with {@link DataRepository#storeAllData(Map)} by a pool
+ * of worker threads. At most twice as many batches as there are workers are in flight, so the scan never runs far
+ * ahead of the copy. Optionally the migration
+ * <ul>
+ *     <li>limits the number of keys copied per second, to keep the load on the target bounded,</li>
+ *     <li>reads every copied value back and compares CRC32C checksums of the serialized values,</li>
+ *     <li>records the progress in a checkpoint file, so an interrupted migration resumes where it stopped. The keys
+ *     are then copied in sorted order and the checkpoint holds the last key up to which all keys were copied, which
+ *     does not depend on the order the source enumerates its keys in. Sorting requires all keys of the source to be
+ *     held in memory, and keys added to the source between two runs which sort before the checkpoint are not
+ *     copied by the resumed run; copying a key twice is harmless.</li>
+ * </ul>
+ *
+ * @param <T> the type of data to be migrated
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class DataMigration<T> {
+
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Supplier<? extends ScannableDataRepository<T>> sourceSupplier;
+    private final Supplier<? extends DataRepository<T>> targetSupplier;
+    private final boolean ownsRepositories;
+
+    private String prefix = "";
+    private int batchSize = 1000;
+    private int concurrency = 4;
+    private long maxKeysPerSecond;
+    private boolean verifyChecksums;
+    private Path checkpointFile;
+
+    /**
+     * Constructs a {@code DataMigration} between two thread-safe repositories, which all workers share.
+     * The repositories are not closed by the migration.
+     *
+     * @param source the repository to copy the data from
+     * @param target the repository to copy the data to
+     */
+    public DataMigration(ScannableDataRepository<T> source, DataRepository<T> target) {
+        this(() -> source, () -> target, false);
+    }
+
+    /**
+     * Constructs a {@code DataMigration} using repositories of its own for the scan and every worker thread,
+     * as needed for repositories holding a single connection like {@link com.izanagicraft.storage.repository.RedisDataRepository}.
+     * Repositories which are {@link AutoCloseable} are closed when the migration is done.
+     *
+     * @param sourceSupplier creates a new connection to the repository to copy the data from
+     * @param targetSupplier creates a new connection to the repository to copy the data to
+     */
+    public DataMigration(Supplier<? extends ScannableDataRepository<T>> sourceSupplier,
+                         Supplier<? extends DataRepository<T>> targetSupplier) {
+        this(sourceSupplier, targetSupplier, true);
+    }
+
+    private DataMigration(Supplier<? extends ScannableDataRepository<T>> sourceSupplier,
+                          Supplier<? extends DataRepository<T>> targetSupplier, boolean ownsRepositories) {
+        this.sourceSupplier = sourceSupplier;
+        this.targetSupplier = targetSupplier;
+        this.ownsRepositories = ownsRepositories;
+    }
+
+    /**
+     * @param prefix the prefix of the keys to migrate, an empty string (the default) migrates all keys
+     */
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * @param batchSize the number of keys read and written together, 1000 by default
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param concurrency the number of worker threads copying batches, 4 by default
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency <= 0) throw new IllegalArgumentException("concurrency must be positive");
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * @param maxKeysPerSecond the maximum number of keys to copy per second, 0 (the default) for no limit
+     */
+    public void setMaxKeysPerSecond(long maxKeysPerSecond) {
+        if (maxKeysPerSecond < 0) throw new IllegalArgumentException("maxKeysPerSecond must not be negative");
+        this.maxKeysPerSecond = maxKeysPerSecond;
+    }
+
+    /**
+     * @param verifyChecksums whether copied values should be read back and compared, false by default
+     */
+    public void setVerifyChecksums(boolean verifyChecksums) {
+        this.verifyChecksums = verifyChecksums;
+    }
+
+    /**
+     * Sets the file to record the progress in. If it exists when the migration starts, the keys up to the recorded
+     * one are skipped. The file is deleted once the migration completes.
+     *
+     * @param checkpointFile the checkpoint file, or null (the default) to not record the progress
+     */
+    public void setCheckpointFile(Path checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Runs the migration and blocks until it is complete.
+     *
+     * @return the result of the migration
+     * @throws IOException          if the checkpoint cannot be read or written, or a batch fails
+     * @throws InterruptedException if the calling thread is interrupted; the checkpoint keeps the progress made
+     */
+    public MigrationResult run() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String checkpoint = readCheckpoint();
+        LongAdder skipped = new LongAdder();
+        Progress progress = new Progress(checkpoint);
+        Throttle throttle = new Throttle();
+
+        List<DataRepository<T>> repositories = new CopyOnWriteArrayList<>();
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> {
+            Worker worker = new Worker(sourceSupplier.get(), targetSupplier.get());
+            repositories.add(worker.source);
+            repositories.add(worker.target);
+            return worker;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "data-storage-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(concurrency * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ScannableDataRepository<T> scanner = sourceSupplier.get();
+        repositories.add(scanner);
+        try (Stream<String> keys = scanner.scanKeys(prefix)) {
+            Stream<String> remaining = keys;
+            if (checkpointFile != null) {
+                // Only the sorted order lets the last copied key stand for all keys before it
+                remaining = keys.sorted();
+            }
+            if (checkpoint != null) {
+                remaining = remaining.filter(key -> {
+                    if (key.compareTo(checkpoint) > 0) return true;
+                    skipped.increment();
+                    return false;
+                });
+            }
+            Iterator<String> iterator = remaining.iterator();
+            long batchIndex = 0;
+            while (iterator.hasNext() && failure.get() == null) {
+                List<String> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                progress.scanned.add(batch.size());
+
+                throttle.acquire(batch.size());
+                inFlight.acquire();
+                long index = batchIndex++;
+                executor.execute(() -> {
+                    try {
+                        transfer(workers.get(), batch, progress);
+                        progress.complete(index, batch);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                progress.checkpoint();
+            } finally {
+                if (ownsRepositories) close(repositories);
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new IOException("Migration failed after " + progress.completedKeys() + " keys", failure.get());
+        }
+        if (checkpointFile != null) {
+            Files.deleteIfExists(checkpointFile);
+        }
+
+        return new MigrationResult(skipped.sum(), progress.scanned.sum(), progress.copied.sum(), progress.missing.sum(),
+                progress.mismatches.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void transfer(Worker worker, List<String> batch, Progress progress) {
+        Map<String, T> values = worker.source.getAllData(batch);
+        progress.missing.add(batch.size() - values.size());
+        if (values.isEmpty()) return;
+
+        worker.target.storeAllData(values);
+        progress.copied.add(values.size());
+
+        if (verifyChecksums) {
+            Map<String, T> stored = worker.target.getAllData(values.keySet());
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                T storedValue = stored.get(entry.getKey());
+                if (storedValue == null || checksum(storedValue) != checksum(entry.getValue())) {
+                    progress.mismatches.increment();
+                }
+            }
+        }
+    }
+
+    private static long checksum(Object value) {
+        try {
+            CRC32C crc = new CRC32C();
+            crc.update(SerializationUtils.serialize(value));
+            return crc.getValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readCheckpoint() throws IOException {
+        if (checkpointFile == null || !Files.exists(checkpointFile)) return null;
+        return Files.readString(checkpointFile, StandardCharsets.UTF_8);
+    }
+
+    private void writeCheckpoint(String lastKey) throws IOException {
+        Path directory = checkpointFile.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, "." + checkpointFile.getFileName(), ".tmp");
+        try {
+            Files.writeString(temporary, lastKey, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporary, checkpointFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void close(List<? extends DataRepository<?>> repositories) {
+        for (DataRepository<?> repository : repositories) {
+            if (repository instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    e.printStackTrace(); // Handle the exception based on your use case
+                }
+            }
+        }
+    }
+
+    /**
+     * The repositories used by one worker thread.
+     */
+    private final class Worker {
+
+        private final ScannableDataRepository<T> source;
+        private final DataRepository<T> target;
+
+        private Worker(ScannableDataRepository<T> source, DataRepository<T> target) {
+            this.source = source;
+            this.target = target;
+        }
+
+    }
+
+    /**
+     * Counts the migrated keys and tracks the watermark of batches completed without gaps, as batches complete
+     * out of order. The watermark is the last key of the last such batch.
+     */
+    private final class Progress {
+
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder copied = new LongAdder();
+        private final LongAdder missing = new LongAdder();
+        private final LongAdder mismatches = new LongAdder();
+
+        private final Map<Long, List<String>> completedBatches = new HashMap<>();
+        private long nextBatch;
+        private long completedKeys;
+        private String lastKey;
+        private long lastCheckpoint = System.nanoTime();
+
+        private Progress(String lastKey) {
+            this.lastKey = lastKey;
+        }
+
+        synchronized void complete(long batchIndex, List<String> batch) throws IOException {
+            completedBatches.put(batchIndex, batch);
+            List<String> next;
+            while ((next = completedBatches.remove(nextBatch)) != null) {
+                completedKeys += next.size();
+                lastKey = next.get(next.size() - 1);
+                nextBatch++;
+            }
+
+            long now = System.nanoTime();
+            if (now - lastCheckpoint >= CHECKPOINT_INTERVAL_NANOS) {
+                lastCheckpoint = now;
+                checkpoint();
+            }
+        }
+
+        synchronized void checkpoint() throws IOException {
+            if (checkpointFile != null && lastKey != null) {
+                writeCheckpoint(lastKey);
+            }
+        }
+
+        synchronized long completedKeys() {
+            return completedKeys;
+        }
+
+    }
+
+    /**
+     * Spaces out batches so no more than {@link #maxKeysPerSecond} keys are submitted per second on average.
+     */
+    private final class Throttle {
+
+        private long nextPermit = System.nanoTime();
+
+        void acquire(int keys) throws InterruptedException {
+            if (maxKeysPerSecond <= 0) return;
+
+            long now = System.nanoTime();
+            if (nextPermit > now) {
+                TimeUnit.NANOSECONDS.sleep(nextPermit - now);
+            }
+            nextPermit = Math.max(nextPermit, now) + keys * 1_000_000_000L / maxKeysPerSecond;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.migration;
+
+import java.time.Duration;
+
+/**
+ * data-storage; com.izanagicraft.storage.migration:MigrationResult
+ * <p>
+ * The outcome of a {@link DataMigration} run.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public final class MigrationResult {
+
+    private final long keysSkipped;
+    private final long keysScanned;
+    private final long keysCopied;
+    private final long keysMissing;
+    private final long checksumMismatches;
+    private final Duration duration;
+
+    MigrationResult(long keysSkipped, long keysScanned, long keysCopied, long keysMissing,
+                    long checksumMismatches, Duration duration) {
+        this.keysSkipped = keysSkipped;
+        this.keysScanned = keysScanned;
+        this.keysCopied = keysCopied;
+        this.keysMissing = keysMissing;
+        this.checksumMismatches = checksumMismatches;
+        this.duration = duration;
+    }
+
+    /**
+     * @return the number of keys skipped because a previous run already copied them
+     */
+    public long getKeysSkipped() {
+        return keysSkipped;
+    }
+
+    /**
+     * @return the number of keys enumerated from the source in this run
+     */
+    public long getKeysScanned() {
+        return keysScanned;
+    }
+
+    /**
+     * @return the number of values copied to the target
+     */
+    public long getKeysCopied() {
+        return keysCopied;
+    }
+
+    /**
+     * @return the number of enumerated keys whose value could not be read from the source
+     */
+    public long getKeysMissing() {
+        return keysMissing;
+    }
+
+    /**
+     * @return the number of copied values which were read back from the target with a different checksum
+     */
+    public long getChecksumMismatches() {
+        return checksumMismatches;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of values copied per second
+     */
+    public double getKeysPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos <= 0 ? 0 : keysCopied * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationResult{" +
+                "keysSkipped=" + keysSkipped +
+                ", keysScanned=" + keysScanned +
+                ", keysCopied=" + keysCopied +
+                ", keysMissing=" + keysMissing +
+                ", checksumMismatches=" + checksumMismatches +
+                ", duration=" + duration +
+                '}';
+    }
+
+}
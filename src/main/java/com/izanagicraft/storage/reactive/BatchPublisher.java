@@ -0,0 +1,220 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.reactive;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * data-storage; com.izanagicraft.storage.reactive:BatchPublisher
+ * <p>
+ * A cold {@link Flow.Publisher} fetching its elements in batches sized by the outstanding demand of the subscriber.
+ * Every subscription gets its own {@link Source}, which is only asked for more elements while there is demand,
+ * so slow subscribers never cause elements to pile up in memory. All signals are emitted from the executor.
+ *
+ * @param <E> the type of the published elements
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+final class BatchPublisher<E> implements Flow.Publisher<E> {
+
+    private final Supplier<Source<E>> sourceFactory;
+    private final Executor executor;
+    private final int batchSize;
+
+    BatchPublisher(Supplier<Source<E>> sourceFactory, Executor executor, int batchSize) {
+        this.sourceFactory = sourceFactory;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        BatchSubscription subscription = new BatchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        // Requests made during onSubscribe are only counted, draining starts once onSubscribe has returned
+        subscription.start();
+    }
+
+    /**
+     * Produces the elements of a single subscription.
+     *
+     * @param <E> the type of the produced elements
+     */
+    interface Source<E> extends AutoCloseable {
+
+        /**
+         * Fetches the next elements. The batch may be empty if none of the fetched entries exist.
+         *
+         * @param max the maximum number of elements to return
+         * @return the next elements, or null if the source is exhausted
+         * @throws Exception if the elements cannot be fetched
+         */
+        List<E> next(int max) throws Exception;
+
+        @Override
+        default void close() {
+        }
+
+    }
+
+    private final class BatchSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super E> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        // Starts at 1 so nothing is drained before onSubscribe returned
+        private final AtomicInteger wip = new AtomicInteger(1);
+
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        // Only accessed by the draining thread
+        private Source<E> source;
+        private boolean done;
+
+        private BatchSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " elements, the demand has to be positive");
+            } else {
+                requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void start() {
+            execute();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                execute();
+            }
+        }
+
+        private void execute() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Nothing is draining, so signalling from the caller is still serial
+                if (!done) {
+                    finish();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) return;
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (error != null) {
+                finish();
+                subscriber.onError(error);
+                return;
+            }
+
+            try {
+                long demand = requested.get();
+                while (demand > 0 && !cancelled) {
+                    if (source == null) source = sourceFactory.get();
+
+                    List<E> batch = source.next((int) Math.min(demand, batchSize));
+                    if (batch == null) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    for (E element : batch) {
+                        subscriber.onNext(element);
+                    }
+                    demand = requested.addAndGet(-batch.size());
+                }
+                if (cancelled) finish();
+            } catch (Throwable t) {
+                finish();
+                subscriber.onError(t);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (source != null) {
+                source.close();
+                source = null;
+            }
+        }
+
+    }
+
+}
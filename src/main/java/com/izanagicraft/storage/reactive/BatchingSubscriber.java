@@ -0,0 +1,169 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.reactive;
+
+import com.izanagicraft.storage.repository.DataRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * data-storage; com.izanagicraft.storage.reactive:BatchingSubscriber
+ * <p>
+ * A {@link Flow.Subscriber} storing the received entries in batches via {@link DataRepository#storeAllData(Map)}.
+ * It requests two batches up front and one more each time a batch has been written, so at most two batches are held
+ * in memory and a slow repository slows down the publisher instead of queueing entries. Batches are written one
+ * after another in the order they were received. A batch is complete once {@code batchSize} entries have been
+ * received, so entries repeating a key within a batch still count towards the demand, but only the last value of such
+ * a key is written.
+ *
+ * @param <T> the type of data to be stored
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class BatchingSubscriber<T> implements Flow.Subscriber<Map.Entry<String, T>> {
+
+    private final DataRepository<T> repository;
+    private final Executor executor;
+    private final int batchSize;
+    private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+    private Map<String, T> batch;
+    // Entries received for the current batch, including those overwritten by a later entry with the same key
+    private int batchReceived;
+    private CompletableFuture<Void> writes = CompletableFuture.completedFuture(null);
+    private long received;
+    private volatile boolean failed;
+
+    /**
+     * Constructs a {@code BatchingSubscriber} writing batches of the given size to the repository.
+     *
+     * @param repository the repository to store the entries in
+     * @param executor   the executor the batches are written on
+     * @param batchSize  the number of entries written per batch
+     */
+    public BatchingSubscriber(DataRepository<T> repository, Executor executor, int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive");
+        this.repository = repository;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.batch = new LinkedHashMap<>(batchSize * 4 / 3 + 1);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null || result.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(2L * batchSize);
+    }
+
+    @Override
+    public void onNext(Map.Entry<String, T> entry) {
+        if (failed) return;
+        batch.put(entry.getKey(), entry.getValue());
+        received++;
+        batchReceived++;
+        if (batchReceived >= batchSize) {
+            flush(true);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // Keep what was received before the publisher failed
+        flush(false);
+        writes.whenComplete((ignored, error) -> result.completeExceptionally(error != null ? error : throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        flush(false);
+        writes.whenComplete((ignored, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(received);
+            }
+        });
+    }
+
+    /**
+     * Returns a future completing with the number of received entries once all of them have been stored, or
+     * exceptionally if the publisher or a write failed.
+     *
+     * @return the future of this subscriber
+     */
+    public CompletableFuture<Long> getResult() {
+        return result;
+    }
+
+    private void flush(boolean requestMore) {
+        if (batch.isEmpty() || failed) return;
+
+        Map<String, T> full = batch;
+        int consumed = batchReceived;
+        batch = new LinkedHashMap<>(batchSize * 4 / 3 + 1);
+        batchReceived = 0;
+        writes = writes.thenRunAsync(() -> repository.storeAllData(full), executor).whenComplete((ignored, error) -> {
+            if (error != null) {
+                failed = true;
+                subscription.cancel();
+                result.completeExceptionally(error);
+            } else if (requestMore) {
+                subscription.request(consumed);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.reactive;
+
+import com.izanagicraft.storage.repository.DataRepository;
+import com.izanagicraft.storage.repository.ScannableDataRepository;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * data-storage; com.izanagicraft.storage.reactive:ReactiveDataRepository
+ * <p>
+ * A {@link Flow} based facade for a {@link DataRepository}. Unlike {@link DataRepository#getDataAsync(String)},
+ * which starts one task per key, the publishers of this class fetch only as many keys as their subscribers
+ * requested, at most {@link #setBatchSize(int) batchSize} at a time, using {@link DataRepository#getAllData(Collection)}
+ * and {@link DataRepository#storeAllData(Map)}. This maps every batch onto a single {@code MGET} or pipeline for
+ * Redis and onto the parallel reads and writes of the file repository.
+ * <p>
+ * All publishers are cold, every subscription starts from the beginning. Repositories which are not thread-safe,
+ * like those backed by a single Redis connection, must only be used by one subscription at a time.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class ReactiveDataRepository<T> {
+
+    private final DataRepository<T> repository;
+    private final Executor executor;
+    private int batchSize = 256;
+
+    /**
+     * Constructs a {@code ReactiveDataRepository} running on the common {@link ForkJoinPool}, like the asynchronous
+     * methods of {@link DataRepository}.
+     *
+     * @param repository the repository to access
+     */
+    public ReactiveDataRepository(DataRepository<T> repository) {
+        this(repository, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a {@code ReactiveDataRepository} running on the given executor.
+     *
+     * @param repository the repository to access
+     * @param executor   the executor the repository is accessed and the subscribers are signalled on
+     */
+    public ReactiveDataRepository(DataRepository<T> repository, Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    /**
+     * Publishes the entries of the given keys in their iteration order. Keys without data are skipped.
+     *
+     * @param keys the keys to retrieve data for
+     * @return a publisher of the found entries
+     */
+    public Flow.Publisher<Map.Entry<String, T>> getAll(Collection<String> keys) {
+        return new BatchPublisher<>(() -> new EntrySource(keys.iterator(), null), executor, batchSize);
+    }
+
+    /**
+     * Publishes all stored keys starting with the given prefix.
+     *
+     * @param prefix the prefix the keys have to start with, an empty string matches all keys
+     * @return a publisher of the matching keys
+     * @throws UnsupportedOperationException if the repository is not a {@link ScannableDataRepository}
+     */
+    public Flow.Publisher<String> scanKeys(String prefix) {
+        ScannableDataRepository<T> scannable = scannable();
+        return new BatchPublisher<>(() -> new KeySource(scannable.scanKeys(prefix)), executor, batchSize);
+    }
+
+    /**
+     * Publishes all stored entries whose keys start with the given prefix.
+     *
+     * @param prefix the prefix the keys have to start with, an empty string matches all keys
+     * @return a publisher of the matching entries
+     * @throws UnsupportedOperationException if the repository is not a {@link ScannableDataRepository}
+     */
+    public Flow.Publisher<Map.Entry<String, T>> scan(String prefix) {
+        ScannableDataRepository<T> scannable = scannable();
+        return new BatchPublisher<>(() -> {
+            Stream<String> keys = scannable.scanKeys(prefix);
+            return new EntrySource(keys.iterator(), keys);
+        }, executor, batchSize);
+    }
+
+    /**
+     * Creates a subscriber storing all received entries, see {@link BatchingSubscriber}.
+     *
+     * @return a new subscriber writing to the repository
+     */
+    public BatchingSubscriber<T> storeAll() {
+        return new BatchingSubscriber<>(repository, executor, batchSize);
+    }
+
+    /**
+     * Sets the maximum number of keys fetched or stored per batch.
+     * Only affects publishers and subscribers created afterwards.
+     *
+     * @param batchSize the maximum batch size, 256 by default
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive");
+        this.batchSize = batchSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScannableDataRepository<T> scannable() {
+        if (!(repository instanceof ScannableDataRepository)) {
+            throw new UnsupportedOperationException(repository.getClass().getSimpleName() + " cannot enumerate its keys");
+        }
+        return (ScannableDataRepository<T>) repository;
+    }
+
+    private final class EntrySource implements BatchPublisher.Source<Map.Entry<String, T>> {
+
+        private final Iterator<String> keys;
+        private final Stream<String> stream;
+
+        private EntrySource(Iterator<String> keys, Stream<String> stream) {
+            this.keys = keys;
+            this.stream = stream;
+        }
+
+        @Override
+        public List<Map.Entry<String, T>> next(int max) {
+            if (!keys.hasNext()) return null;
+
+            List<String> batch = new ArrayList<>(max);
+            while (batch.size() < max && keys.hasNext()) {
+                batch.add(keys.next());
+            }
+
+            Map<String, T> values = repository.getAllData(batch);
+            List<Map.Entry<String, T>> entries = new ArrayList<>(values.size());
+            for (String key : batch) {
+                T value = values.get(key);
+                if (value != null) {
+                    entries.add(Map.entry(key, value));
+                }
+            }
+            return entries;
+        }
+
+        @Override
+        public void close() {
+            if (stream != null) stream.close();
+        }
+
+    }
+
+    private static final class KeySource implements BatchPublisher.Source<String> {
+
+        private final Stream<String> stream;
+        private final Iterator<String> keys;
+
+        private KeySource(Stream<String> stream) {
+            this.stream = stream;
+            this.keys = stream.iterator();
+        }
+
+        @Override
+        public List<String> next(int max) {
+            if (!keys.hasNext()) return null;
+
+            List<String> batch = new ArrayList<>(max);
+            while (batch.size() < max && keys.hasNext()) {
+                batch.add(keys.next());
+            }
+            return batch;
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+
+    }
+
+}
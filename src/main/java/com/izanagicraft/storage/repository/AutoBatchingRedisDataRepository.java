@@ -0,0 +1,589 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.resilience.CircuitBreaker;
+import com.izanagicraft.storage.resilience.CircuitOpenException;
+import com.izanagicraft.storage.resilience.RetryPolicy;
+import com.izanagicraft.storage.utils.SerializationUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.SetParams;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:AutoBatchingRedisDataRepository
+ * <p>
+ * A Redis repository which may be shared between any number of threads. Calls are queued and sent by a single
+ * flusher thread, which merges all calls queued at the same time into one pipelined round trip and hands the
+ * replies back to the waiting callers. Values are serialized and deserialized on the calling threads.
+ * <p>
+ * After taking the first call from the queue, the flusher waits up to a batching window for more calls. The window
+ * adapts to the load: it doubles while waiting gathers more calls, up to {@link #setMaxWindow(Duration) maxWindow},
+ * and halves when waiting gathered nothing. A lone caller therefore gets close to the latency of a direct call,
+ * while many concurrent callers share round trips. Calls are sent in the order they were queued, so a read
+ * following a write of the same thread always sees the write.
+ * <p>
+ * Like {@link RedisDataRepository}, writes and removals delete a value written through
+ * {@link RedisDataRepository#openOutputStream(String)} under the same key, and round trips go through the configured
+ * {@link RetryPolicy} and {@link CircuitBreaker}. A broken connection fails the calls of its round trip and is
+ * reopened by the next one.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class AutoBatchingRedisDataRepository<T> implements RedisRepository<T>, InstrumentedRepository, AutoCloseable {
+
+    private static final long MIN_WINDOW_NANOS = 1_000;
+
+    private final Jedis jedis;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private final BlockingQueue<Command<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+    private volatile RetryPolicy retryPolicy = RetryPolicy.none();
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile int maxBatchSize = 512;
+    private volatile long maxWindowNanos = TimeUnit.MICROSECONDS.toNanos(50);
+
+    // Only accessed by the flusher thread
+    private long windowNanos;
+
+    /**
+     * Constructs an {@code AutoBatchingRedisDataRepository} with the specified Redis server connection and starts
+     * its flusher thread.
+     *
+     * @param connection the Redis server connection string
+     */
+    public AutoBatchingRedisDataRepository(String connection) {
+        this.jedis = new Jedis(connection);
+        this.flusher = new Thread(this::flushLoop, "data-storage-redis-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public T getData(String key) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = submit(pipeline -> pipeline.get(key.getBytes())).join();
+            if (serializedValue != null) {
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
+                return SerializationUtils.deserialize(serializedValue);
+            }
+            metrics.recordMiss();
+        } catch (CompletionException | IOException | ClassNotFoundException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    @Override
+    public T storeData(String key, T value) {
+        return store(key, value, (pipeline, serializedValue) -> pipeline.set(key.getBytes(), serializedValue));
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        return store(key, value, (pipeline, serializedValue) -> pipeline.setex(key.getBytes(), expirationSeconds, serializedValue));
+    }
+
+    /**
+     * Stores data with the specified key and a millisecond precise expiration using {@code PSETEX}.
+     *
+     * @param key        the key to store data
+     * @param value      the data to be stored
+     * @param expiration the time until the data expires
+     * @return the stored data
+     */
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return store(key, value, (pipeline, serializedValue) -> pipeline.psetex(key.getBytes(), expiration.toMillis(), serializedValue));
+    }
+
+    /**
+     * Stores data with the specified key, expiring at the given point in time using {@code SET PXAT}.
+     *
+     * @param key       the key to store data
+     * @param value     the data to be stored
+     * @param expiresAt the point in time the data expires at
+     * @return the stored data
+     */
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return store(key, value, (pipeline, serializedValue) -> pipeline.set(key.getBytes(), serializedValue,
+                new SetParams().pxAt(expiresAt.toEpochMilli())));
+    }
+
+    @Override
+    public boolean isStored(String key) {
+        try {
+            return Boolean.TRUE.equals(submit(pipeline -> pipeline.exists(key.getBytes())).join());
+        } catch (CompletionException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        try {
+            CompletableFuture<Long> removed = submit(pipeline -> pipeline.del(key.getBytes()));
+            boolean removedStreamed = removeStreamed(key);
+            return removed.join() > 0 || removedStreamed;
+        } catch (CompletionException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+        return false;
+    }
+
+    @Override
+    public void clearStorage() {
+        try {
+            execute(Jedis::flushDB).join();
+        } catch (CompletionException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    /**
+     * Retrieves the data associated with each of the specified keys. All {@code GET}s are queued at once, so they
+     * share round trips with each other and with the calls of other threads.
+     *
+     * @param keys the keys to retrieve data for
+     * @return a map of the found keys to their data, keys without data are absent
+     */
+    @Override
+    public Map<String, T> getAllData(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        if (keys.isEmpty()) return result;
+
+        long start = System.nanoTime();
+        Map<String, CompletableFuture<byte[]>> responses = new LinkedHashMap<>();
+        for (String key : keys) {
+            responses.put(key, submit(pipeline -> pipeline.get(key.getBytes())));
+        }
+        responses.forEach((key, response) -> {
+            try {
+                byte[] serializedValue = response.join();
+                if (serializedValue == null) {
+                    metrics.recordMiss();
+                    return;
+                }
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
+                result.put(key, SerializationUtils.deserialize(serializedValue));
+            } catch (CompletionException | IOException | ClassNotFoundException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        });
+        metrics.recordRead(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Stores each of the specified entries. All {@code SET}s are queued at once, so they share round trips with
+     * each other and with the calls of other threads.
+     *
+     * @param data the keys and the data to store with them
+     */
+    @Override
+    public void storeAllData(Map<String, T> data) {
+        if (data.isEmpty()) return;
+
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> responses = new ArrayList<>(data.size());
+        Map<String, CompletableFuture<byte[]>> descriptors = new LinkedHashMap<>();
+        for (Map.Entry<String, T> entry : data.entrySet()) {
+            RedisDataRepository.checkKey(entry.getKey());
+            try {
+                byte[] serializedValue = SerializationUtils.serialize(entry.getValue());
+                responses.add(submit(pipeline -> pipeline.set(entry.getKey().getBytes(), serializedValue)));
+                descriptors.put(entry.getKey(), submit(pipeline -> pipeline.getDel(RedisDataRepository.chunksKey(entry.getKey()))));
+                metrics.recordBytesWritten(serializedValue.length);
+            } catch (IOException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }
+        for (CompletableFuture<String> response : responses) {
+            try {
+                response.join();
+            } catch (CompletionException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }
+        descriptors.forEach((key, descriptor) -> {
+            try {
+                deleteChunks(key, descriptor.join());
+            } catch (CompletionException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        });
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    /**
+     * Sets the maximum number of calls sent in one round trip.
+     *
+     * @param maxBatchSize the maximum batch size, 512 by default
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive");
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Sets the upper bound of the adaptive batching window. A window of zero disables waiting, batches then only
+     * contain the calls queued while the previous round trip was in flight.
+     *
+     * @param maxWindow the maximum time to wait for more calls, 50 µs by default
+     */
+    public void setMaxWindow(Duration maxWindow) {
+        if (maxWindow.isNegative()) throw new IllegalArgumentException("The batching window must not be negative");
+        this.maxWindowNanos = maxWindow.toNanos();
+    }
+
+    /**
+     * Sets the policy for retrying round trips which failed because of connection problems or timeouts.
+     * A retried round trip sends all of its calls again.
+     *
+     * @param retryPolicy the retry policy, {@link RetryPolicy#none()} by default
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Sets the circuit breaker guarding the round trips. Only connection problems and timeouts count as failures.
+     *
+     * @param circuitBreaker the circuit breaker, or null to always call Redis
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Stops the flusher thread, fails all calls which were not sent yet and closes the connection.
+     */
+    @Override
+    public void close() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failQueued();
+        jedis.close();
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    private T store(String key, T value, BiFunction<Pipeline, byte[], Response<String>> operation) {
+        RedisDataRepository.checkKey(key);
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = SerializationUtils.serialize(value);
+            CompletableFuture<String> written = submit(pipeline -> operation.apply(pipeline, serializedValue));
+            // Queued right behind the write, like the transaction of RedisDataRepository replacing a streamed value
+            removeStreamed(key);
+            written.join();
+            metrics.recordBytesWritten(serializedValue.length);
+        } catch (CompletionException | IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the descriptor of a value written through {@link RedisDataRepository#openOutputStream(String)} and
+     * deletes its chunks.
+     *
+     * @return true if there was such a value
+     */
+    private boolean removeStreamed(String key) {
+        byte[] descriptor = submit(pipeline -> pipeline.getDel(RedisDataRepository.chunksKey(key))).join();
+        deleteChunks(key, descriptor);
+        return descriptor != null;
+    }
+
+    private void deleteChunks(String key, byte[] descriptor) {
+        if (descriptor == null) return;
+        byte[][] chunkKeys = RedisDataRepository.chunkKeys(key, descriptor);
+        if (chunkKeys.length > 0) {
+            submit(pipeline -> pipeline.del(chunkKeys)).join();
+        }
+    }
+
+    private <R> CompletableFuture<R> submit(Function<Pipeline, Response<R>> operation) {
+        return enqueue(new Command<>(operation, null));
+    }
+
+    private <R> CompletableFuture<R> execute(Function<Jedis, R> operation) {
+        return enqueue(new Command<>(null, operation));
+    }
+
+    private <R> CompletableFuture<R> enqueue(Command<R> command) {
+        if (!running) {
+            command.result.completeExceptionally(new IllegalStateException("The repository is closed"));
+            return command.result;
+        }
+        queue.add(command);
+        // The flusher may have stopped in between and will never see the command
+        if (!running) failQueued();
+        return command.result;
+    }
+
+    private void failQueued() {
+        Command<?> command;
+        while ((command = queue.poll()) != null) {
+            command.result.completeExceptionally(new IllegalStateException("The repository is closed"));
+        }
+    }
+
+    private void flushLoop() {
+        List<Command<?>> batch = new ArrayList<>();
+        try {
+            while (running) {
+                batch.add(queue.take());
+                try {
+                    collect(batch);
+                    send(batch);
+                } catch (RuntimeException | Error e) {
+                    // The flusher has to survive, its callers would wait forever otherwise
+                    metrics.recordError();
+                    e.printStackTrace(); // Handle the exception based on your use case
+                    fail(batch, e);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Closed, the remaining calls are failed by close
+        }
+        fail(batch, new IllegalStateException("The repository is closed"));
+    }
+
+    private void collect(List<Command<?>> batch) throws InterruptedException {
+        int maxBatchSize = this.maxBatchSize;
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        if (batch.size() >= maxBatchSize) return;
+
+        if (windowNanos == 0) {
+            // Calls piled up during the previous round trip, start probing whether waiting gathers even more
+            if (batch.size() > 1 && maxWindowNanos > 0) windowNanos = Math.min(MIN_WINDOW_NANOS, maxWindowNanos);
+            return;
+        }
+
+        int before = batch.size();
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            Command<?> command = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (command == null) break;
+            batch.add(command);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+
+        if (batch.size() > before) {
+            windowNanos = Math.min(windowNanos * 2, maxWindowNanos);
+        } else {
+            windowNanos = windowNanos / 2 < MIN_WINDOW_NANOS ? 0 : windowNanos / 2;
+        }
+    }
+
+    private void send(List<Command<?>> batch) {
+        int from = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Command<?> command = batch.get(i);
+            if (command.direct != null) {
+                // Keep the order, everything queued before a direct call is sent first
+                sendPipelined(batch.subList(from, i));
+                command.executeDirect(jedis);
+                from = i + 1;
+            }
+        }
+        sendPipelined(batch.subList(from, batch.size()));
+    }
+
+    private void sendPipelined(List<Command<?>> commands) {
+        if (commands.isEmpty()) return;
+
+        RetryPolicy retry = this.retryPolicy;
+        CircuitBreaker breaker = this.circuitBreaker;
+        for (int attempt = 1; ; attempt++) {
+            if (breaker != null && !breaker.tryAcquire()) {
+                fail(commands, new CircuitOpenException());
+                return;
+            }
+
+            try (Pipeline pipeline = jedis.pipelined()) {
+                for (Command<?> command : commands) {
+                    command.queue(pipeline);
+                }
+                pipeline.sync();
+            } catch (JedisConnectionException e) {
+                // The connection is broken, drop it so the next attempt or round trip reconnects
+                jedis.disconnect();
+                if (breaker != null) breaker.onFailure();
+                if (attempt >= retry.getMaxAttempts() || !backOff(retry.getDelayMillis(attempt))) {
+                    fail(commands, e);
+                    return;
+                }
+                continue;
+            } catch (RuntimeException e) {
+                // Redis answered, but not as expected, the server itself is reachable
+                if (breaker != null) breaker.onSuccess();
+                fail(commands, e);
+                return;
+            }
+
+            if (breaker != null) breaker.onSuccess();
+            for (Command<?> command : commands) {
+                command.complete();
+            }
+            return;
+        }
+    }
+
+    /**
+     * Waits before the next attempt of a round trip.
+     *
+     * @return false if the repository was closed meanwhile
+     */
+    private boolean backOff(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+            return running;
+        } catch (InterruptedException e) {
+            // Keep the interrupt, so the flusher loop stops
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void fail(List<Command<?>> commands, Throwable cause) {
+        for (Command<?> command : commands) {
+            command.result.completeExceptionally(cause);
+        }
+    }
+
+    private static final class Command<R> {
+
+        private final Function<Pipeline, Response<R>> pipelined;
+        private final Function<Jedis, R> direct;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private Response<R> response;
+
+        private Command(Function<Pipeline, Response<R>> pipelined, Function<Jedis, R> direct) {
+            this.pipelined = pipelined;
+            this.direct = direct;
+        }
+
+        private void queue(Pipeline pipeline) {
+            response = pipelined.apply(pipeline);
+        }
+
+        private void complete() {
+            try {
+                result.complete(response.get());
+            } catch (JedisException e) {
+                // Error replies only fail the call they belong to
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void executeDirect(Jedis jedis) {
+            try {
+                result.complete(direct.apply(jedis));
+            } catch (JedisConnectionException e) {
+                jedis.disconnect();
+                result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+    }
+
+}
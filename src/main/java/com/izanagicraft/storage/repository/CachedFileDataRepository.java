@@ -46,7 +46,17 @@
 
 package com.izanagicraft.storage.repository;
 
+import com.izanagicraft.storage.cache.HotKeyTracker;
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * data-storage; com.izanagicraft.storage.repository:CachedFileDataRepository
@@ -59,10 +69,14 @@ import java.io.File;
  * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
  * @since 13.12.2023
  */
-public class CachedFileDataRepository<T> implements DataRepository<T> {
+public class CachedFileDataRepository<T> implements ScannableDataRepository<T>, ExpiringDataRepository<T>, InstrumentedRepository,
+        AutoCloseable {
 
     private final FileDataRepository<T> fileDataRepository;
     private final InMemoryDataRepository<T> inMemoryDataRepository;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    private volatile HotKeyTracker hotKeyTracker;
 
     /**
      * Constructs a {@code CachedDataRepository} with the specified base path for file storage.
@@ -84,29 +98,82 @@ public class CachedFileDataRepository<T> implements DataRepository<T> {
         this.inMemoryDataRepository = new InMemoryDataRepository<>();
     }
 
+    /**
+     * Constructs a {@code CachedDataRepository} with the specified base directory for file storage, optionally
+     * indexing the stored keys so cache misses for missing keys do not touch the file system, see
+     * {@link FileDataRepository#FileDataRepository(File, boolean, boolean)}.
+     *
+     * @param baseDirectory the base directory where data files will be stored
+     * @param keyIndex      whether the stored keys should be indexed in memory
+     */
+    public CachedFileDataRepository(File baseDirectory, boolean keyIndex) {
+        this.fileDataRepository = new FileDataRepository<>(baseDirectory, false, keyIndex);
+        this.inMemoryDataRepository = new InMemoryDataRepository<>();
+    }
+
     @Override
     public T getData(String key) {
+        long start = System.nanoTime();
+
+        HotKeyTracker tracker = this.hotKeyTracker;
+        if (tracker != null) tracker.record(key);
+
         // Try to get data from in-memory cache
         T data = inMemoryDataRepository.getData(key);
 
         // If not found in memory, try to get from file repository
         if (data == null) {
-            data = fileDataRepository.getData(key);
+            metrics.recordMiss();
+            ExpiringValue<T> loaded = fileDataRepository.getDataWithExpiration(key);
+            data = loaded.getValue();
 
-            // If found in file repository, store in-memory cache
+            // If found in file repository, store in-memory cache, expiring together with the file
             if (data != null) {
-                inMemoryDataRepository.storeData(key, data);
+                inMemoryDataRepository.storeDataUntil(key, data, loaded.getExpiresAt());
             }
+        } else {
+            metrics.recordHit();
         }
 
+        metrics.recordRead(System.nanoTime() - start);
         return data;
     }
 
     @Override
     public T storeData(String key, T value) {
+        long start = System.nanoTime();
+
         // Store in both in-memory cache and file repository
         inMemoryDataRepository.storeData(key, value);
         fileDataRepository.storeData(key, value);
+
+        metrics.recordWrite(System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expirationSeconds * 1000);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expiration.toMillis());
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return storeDataUntil(key, value, expiresAt.toEpochMilli());
+    }
+
+    private T storeDataUntil(String key, T value, long expiresAtMillis) {
+        long start = System.nanoTime();
+
+        // Store in both in-memory cache and file repository, both expire at the same time
+        inMemoryDataRepository.storeDataUntil(key, value, expiresAtMillis);
+        fileDataRepository.storeDataUntil(key, value, expiresAtMillis);
+
+        metrics.recordWrite(System.nanoTime() - start);
         return value;
     }
 
@@ -116,6 +183,13 @@ public class CachedFileDataRepository<T> implements DataRepository<T> {
         return inMemoryDataRepository.isStored(key) || fileDataRepository.isStored(key);
     }
 
+    @Override
+    public boolean removeData(String key) {
+        // Remove the file first, so a concurrent read cannot load the value into the cache again
+        boolean removed = fileDataRepository.removeData(key);
+        return inMemoryDataRepository.removeData(key) || removed;
+    }
+
     @Override
     public void clearStorage() {
         // Clear both in-memory cache and file repository
@@ -123,4 +197,129 @@ public class CachedFileDataRepository<T> implements DataRepository<T> {
         fileDataRepository.clearStorage();
     }
 
+    @Override
+    public Stream<String> scanKeys(String prefix) {
+        return fileDataRepository.scanKeys(prefix);
+    }
+
+    /**
+     * Prefetches all entries whose keys start with the given prefix from the file repository into the in-memory cache.
+     * Entries are fetched in bulk batches of the given size.
+     *
+     * @param prefix    the prefix the keys have to start with, an empty string matches all keys
+     * @param batchSize the number of entries fetched per batch
+     * @return the number of entries loaded into the cache
+     */
+    public int warmUp(String prefix, int batchSize) {
+        int loaded = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Stream<String> keys = fileDataRepository.scanKeys(prefix)) {
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize || !iterator.hasNext()) {
+                    // Read the batch in parallel like getAllData, but keep the expiration times of the entries
+                    loaded += batch.parallelStream().mapToInt(key -> {
+                        ExpiringValue<T> value = fileDataRepository.getDataWithExpiration(key);
+                        if (value.getValue() == null) return 0;
+                        inMemoryDataRepository.storeDataUntil(key, value.getValue(), value.getExpiresAt());
+                        return 1;
+                    }).sum();
+                    batch.clear();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Enables hot key tracking: every read is recorded in a {@link HotKeyTracker} of fixed size, see
+     * {@link #getHotKeys(int)}. Cached entries are always served without touching the file system, so there is
+     * nothing to pin.
+     *
+     * @param topK the number of hot keys to track
+     */
+    public void enableHotKeyTracking(int topK) {
+        this.hotKeyTracker = new HotKeyTracker(topK);
+    }
+
+    /**
+     * Disables hot key tracking, see {@link #enableHotKeyTracking(int)}.
+     */
+    public void disableHotKeyTracking() {
+        this.hotKeyTracker = null;
+    }
+
+    /**
+     * Returns the most frequently read keys with their estimated read counts, hottest first.
+     *
+     * @param limit the maximum number of keys to return
+     * @return the hottest keys, empty if hot key tracking is disabled
+     */
+    public List<Map.Entry<String, Long>> getHotKeys(int limit) {
+        HotKeyTracker tracker = this.hotKeyTracker;
+        return tracker == null ? Collections.emptyList() : tracker.getHotKeys(limit);
+    }
+
+    /**
+     * Saves a snapshot of the most frequently read cache entries, see {@link InMemoryDataRepository#saveSnapshot(Path, int)}.
+     *
+     * @param file       the file to write the snapshot to
+     * @param maxEntries the maximum number of entries to include
+     * @return the number of entries written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public int saveSnapshot(Path file, int maxEntries) throws IOException {
+        return inMemoryDataRepository.saveSnapshot(file, maxEntries);
+    }
+
+    /**
+     * Loads a snapshot into the in-memory cache, see {@link InMemoryDataRepository#loadSnapshot(Path)}.
+     *
+     * @param file the snapshot file
+     * @return the number of entries loaded, 0 if the file does not exist
+     * @throws IOException if the snapshot cannot be read
+     */
+    public int loadSnapshot(Path file) throws IOException {
+        return inMemoryDataRepository.loadSnapshot(file);
+    }
+
+    /**
+     * Periodically saves a snapshot of the in-memory cache, see {@link InMemoryDataRepository#scheduleSnapshots(Path, int, Duration)}.
+     *
+     * @param file       the file to write the snapshots to
+     * @param maxEntries the maximum number of entries to include
+     * @param interval   the interval between two snapshots
+     */
+    public void scheduleSnapshots(Path file, int maxEntries, Duration interval) {
+        inMemoryDataRepository.scheduleSnapshots(file, maxEntries, interval);
+    }
+
+    /**
+     * Stops scheduled snapshots, saves a final one and closes the file repository.
+     */
+    @Override
+    public void close() {
+        inMemoryDataRepository.close();
+        fileDataRepository.close();
+    }
+
+    /**
+     * Returns the metrics of the cache layer. Hits and misses refer to the in-memory cache, serialized sizes and
+     * errors are recorded by the backing {@link FileDataRepository}, see {@link #getFileMetrics()}.
+     *
+     * @return the metrics of this repository
+     */
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the metrics of the backing {@link FileDataRepository}
+     */
+    public RepositoryMetrics getFileMetrics() {
+        return fileDataRepository.getMetrics();
+    }
+
 }
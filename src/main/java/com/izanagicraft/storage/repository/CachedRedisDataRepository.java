@@ -46,21 +46,68 @@
 
 package com.izanagicraft.storage.repository;
 
+import com.izanagicraft.storage.cache.HotKeyTracker;
+import com.izanagicraft.storage.cache.RefreshAheadScheduler;
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.resilience.CircuitBreaker;
+import com.izanagicraft.storage.resilience.RetryPolicy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
 /**
  * data-storage; com.izanagicraft.storage.repository:CachedRedisDataRepository
  * <p>
  * A data repository that combines the functionality of {@link RedisDataRepository} and {@link InMemoryDataRepository}
  * to provide a caching mechanism. It delegates calls based on caching logic, attempting to retrieve data from an
  * in-memory cache first and falling back to a Redis database when necessary.
+ * <p>
+ * Entries with an expiration time, i.e. stored through {@link #storeDataWithExpiration(String, Object, long)} or
+ * loaded from Redis with a TTL, are served from memory until they expire. With
+ * {@link #enableRefreshAhead(Duration, int)} such entries are reloaded in the background when they are read
+ * shortly before expiring, so hot keys never have to be loaded synchronously.
+ * <p>
+ * With {@link #enableHotKeyTracking(int, boolean)} every read is recorded in a {@link HotKeyTracker}, which reports
+ * the most frequently read keys and can pin them, so reads of cached hot keys no longer reach Redis at all.
+ * <p>
+ * While Redis cannot be reached, e.g. because the {@link #setCircuitBreaker(CircuitBreaker) circuit breaker} is
+ * open, cached values are served as they are, possibly stale, and writes are applied to the cache and queued.
+ * Removals are queued the same way. Queued writes are replayed, latest value per key, by the first operation
+ * after Redis became available again. Without a circuit breaker, replaying is not attempted again for a second
+ * after a Redis call failed, so operations during an outage only wait for their own call to time out.
  *
  * @param <T> the type of data to be stored in the repository
  * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
  * @since 13.12.2023
  */
-public class CachedRedisDataRepository<T> implements RedisRepository<T> {
+public class CachedRedisDataRepository<T> implements RedisRepository<T>, ScannableDataRepository<T>, InstrumentedRepository, AutoCloseable {
 
+    private static final long REPLAY_BACKOFF_MILLIS = 1_000;
+
+    private final String redisConnection;
+    private final Duration connectTimeout;
+    private final Duration socketTimeout;
     private final RedisDataRepository<T> redisDataRepository;
     private final InMemoryDataRepository<T> inMemoryDataRepository;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private final Map<String, ExpiringValue<T>> pendingWrites = new ConcurrentHashMap<>();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private volatile long nextReplayMillis;
+
+    private volatile RetryPolicy retryPolicy = RetryPolicy.none();
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile int maxPendingWrites = 10_000;
+    private volatile RefreshAheadScheduler refreshAheadScheduler;
+    private volatile RedisDataRepository<T> refreshRepository;
+    private volatile HotKeyTracker hotKeyTracker;
+    private volatile boolean pinHotKeys;
 
     /**
      * Constructs a {@code CachedRedisDataRepository} with the specified Redis server connection string.
@@ -68,36 +115,99 @@ public class CachedRedisDataRepository<T> implements RedisRepository<T> {
      * @param redisConnection the Redis server connection string
      */
     public CachedRedisDataRepository(String redisConnection) {
-        this.redisDataRepository = new RedisDataRepository<>(redisConnection);
+        this(redisConnection, null, null);
+    }
+
+    /**
+     * Constructs a {@code CachedRedisDataRepository} with the specified Redis server connection string and timeouts.
+     *
+     * @param redisConnection the Redis server connection string
+     * @param connectTimeout  the maximum time to wait for a connection to be established
+     * @param socketTimeout   the maximum time to wait for a reply
+     */
+    public CachedRedisDataRepository(String redisConnection, Duration connectTimeout, Duration socketTimeout) {
+        this.redisConnection = redisConnection;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        this.redisDataRepository = createRedisRepository();
         this.inMemoryDataRepository = new InMemoryDataRepository<>();
     }
 
     @Override
     public T getData(String key) {
-        if (!redisDataRepository.isStored(key)) return null;
+        long start = System.nanoTime();
+        try {
+            HotKeyTracker tracker = this.hotKeyTracker;
+            if (tracker != null) tracker.record(key);
+            replayPendingWrites();
+
+            // Try to get data from in-memory cache
+            InMemoryDataRepository.Entry<T> entry = inMemoryDataRepository.getEntry(key);
+
+            // Entries with a known expiration are valid until then, refresh them if they are about to expire
+            if (entry != null && entry.getExpiresAt() != 0) {
+                metrics.recordHit();
+                RefreshAheadScheduler scheduler = this.refreshAheadScheduler;
+                if (scheduler != null && scheduler.isDue(entry.getExpiresAt())) {
+                    scheduler.schedule(key, entry.getExpiresAt(), () -> refresh(key));
+                }
+                return entry.getValue();
+            }
+
+            // Pinned hot keys are served without checking whether they still exist in Redis
+            if (entry != null && pinHotKeys && tracker != null && tracker.isHot(key)) {
+                metrics.recordHit();
+                return entry.getValue();
+            }
+
+            // Queued writes and removals are newer than anything Redis holds
+            if (pendingWrites.containsKey(key)) {
+                if (entry != null) {
+                    metrics.recordHit();
+                    return entry.getValue();
+                }
+                metrics.recordMiss();
+                return null;
+            }
 
-        // Try to get data from in-memory cache
-        T data = inMemoryDataRepository.getData(key);
+            Boolean exists = redisDataRepository.exists(key);
+            if (exists == null) {
+                // Redis is unavailable, serve the cached value without knowing whether it is still current
+                if (entry != null) {
+                    metrics.recordHit();
+                    return entry.getValue();
+                }
+                metrics.recordMiss();
+                return null;
+            }
+            if (!exists) {
+                metrics.recordMiss();
+                return null;
+            }
+
+            if (entry != null) {
+                metrics.recordHit();
+                return entry.getValue();
+            }
 
-        // If not found in memory, try to get from Redis database
-        if (data == null) {
-            data = redisDataRepository.getData(key);
+            // If not found in memory, try to get from Redis database
+            metrics.recordMiss();
+            ExpiringValue<T> loaded = redisDataRepository.getDataWithExpiration(key);
 
             // If found in Redis database, store in-memory cache
-            if (data != null) {
-                inMemoryDataRepository.storeData(key, data);
+            if (loaded.getValue() != null) {
+                inMemoryDataRepository.storeDataUntil(key, loaded.getValue(), loaded.getExpiresAt());
             }
-        }
 
-        return data;
+            return loaded.getValue();
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
     }
 
     @Override
     public T storeData(String key, T value) {
-        // Store in both in-memory cache and Redis database
-        inMemoryDataRepository.storeData(key, value);
-        redisDataRepository.storeData(key, value);
-        return value;
+        return storeDataUntil(key, value, 0);
     }
 
     @Override
@@ -106,16 +216,337 @@ public class CachedRedisDataRepository<T> implements RedisRepository<T> {
         return inMemoryDataRepository.isStored(key) || redisDataRepository.isStored(key);
     }
 
+    @Override
+    public boolean removeData(String key) {
+        replayPendingWrites();
+
+        // Remove from Redis first, so a concurrent read cannot load the value into the cache again
+        Boolean removed = redisDataRepository.remove(key);
+        boolean removedFromMemory = inMemoryDataRepository.removeData(key);
+        if (removed != null) {
+            pendingWrites.remove(key);
+            return removed || removedFromMemory;
+        }
+
+        // Redis is unavailable, queue the removal, a null value marks it
+        deferReplay();
+        if (pendingWrites.size() < maxPendingWrites || pendingWrites.containsKey(key)) {
+            pendingWrites.put(key, new ExpiringValue<>(null, 0));
+        } else {
+            metrics.recordError();
+        }
+        return removedFromMemory;
+    }
+
     @Override
     public void clearStorage() {
-        // Clear both in-memory cache and Redis database
+        // Clear both in-memory cache and Redis database, queued writes are obsolete
+        pendingWrites.clear();
         inMemoryDataRepository.clearStorage();
         redisDataRepository.clearStorage();
     }
 
     @Override
     public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
-        return redisDataRepository.storeDataWithExpiration(key, value, expirationSeconds);
+        return storeDataUntil(key, value, System.currentTimeMillis() + expirationSeconds * 1000);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expiration.toMillis());
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return storeDataUntil(key, value, expiresAt.toEpochMilli());
+    }
+
+    private T storeDataUntil(String key, T value, long expiresAtMillis) {
+        long start = System.nanoTime();
+        replayPendingWrites();
+
+        // Store in both in-memory cache and Redis database, the cached entry expires together with the Redis key.
+        // Redis stores the absolute expiration time, so a replayed write expires when it would have originally.
+        inMemoryDataRepository.storeDataUntil(key, value, expiresAtMillis);
+        if (redisDataRepository.storeDataUntil(key, value, expiresAtMillis)) {
+            pendingWrites.remove(key);
+        } else {
+            deferReplay();
+            if (pendingWrites.size() < maxPendingWrites || pendingWrites.containsKey(key)) {
+                pendingWrites.put(key, new ExpiringValue<>(value, expiresAtMillis));
+            } else {
+                // The queue is full, the value only lives in the cache
+                metrics.recordError();
+            }
+        }
+
+        metrics.recordWrite(System.nanoTime() - start);
+        return value;
+    }
+
+    private void replayPendingWrites() {
+        if (pendingWrites.isEmpty() || !redisDataRepository.isAvailable()) return;
+        // The breaker already spaces out calls while Redis is down, without one a failure defers the next attempt
+        if (circuitBreaker == null && System.currentTimeMillis() < nextReplayMillis) return;
+        // Another thread is replaying, the others carry on instead of waiting for the same calls
+        if (!replaying.compareAndSet(false, true)) return;
+
+        try {
+            for (Map.Entry<String, ExpiringValue<T>> write : pendingWrites.entrySet()) {
+                ExpiringValue<T> value = write.getValue();
+                long expiresAt = value.getExpiresAt();
+                // Stop at the first failure, the remaining writes are replayed once Redis is back
+                if (value.getValue() == null) {
+                    if (redisDataRepository.remove(write.getKey()) == null) {
+                        deferReplay();
+                        return;
+                    }
+                } else if (expiresAt == 0 || expiresAt > System.currentTimeMillis()) {
+                    if (!redisDataRepository.storeDataUntil(write.getKey(), value.getValue(), expiresAt)) {
+                        deferReplay();
+                        return;
+                    }
+                }
+                pendingWrites.remove(write.getKey(), value);
+            }
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    private void deferReplay() {
+        nextReplayMillis = System.currentTimeMillis() + REPLAY_BACKOFF_MILLIS;
+    }
+
+    /**
+     * Sets the policy for retrying Redis calls which failed because of connection problems or timeouts,
+     * see {@link RedisDataRepository#setRetryPolicy(RetryPolicy)}.
+     *
+     * @param retryPolicy the retry policy, {@link RetryPolicy#none()} by default
+     */
+    public synchronized void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        redisDataRepository.setRetryPolicy(retryPolicy);
+        if (refreshRepository != null) refreshRepository.setRetryPolicy(retryPolicy);
+    }
+
+    /**
+     * Sets the circuit breaker guarding the Redis calls, see {@link RedisDataRepository#setCircuitBreaker(CircuitBreaker)}.
+     * While it is open, cached values are served and writes are queued without trying to reach Redis.
+     *
+     * @param circuitBreaker the circuit breaker, or null to always call Redis
+     */
+    public synchronized void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        redisDataRepository.setCircuitBreaker(circuitBreaker);
+        if (refreshRepository != null) refreshRepository.setCircuitBreaker(circuitBreaker);
+    }
+
+    /**
+     * Sets the maximum number of keys with writes queued while Redis is unavailable. Further writes of other keys
+     * are only applied to the cache.
+     *
+     * @param maxPendingWrites the maximum number of queued writes, 10000 by default
+     */
+    public void setMaxPendingWrites(int maxPendingWrites) {
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /**
+     * @return the number of keys with writes waiting to be replayed to Redis
+     */
+    public int getPendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    private RedisDataRepository<T> createRedisRepository() {
+        RedisDataRepository<T> repository = connectTimeout == null
+                ? new RedisDataRepository<>(redisConnection)
+                : new RedisDataRepository<>(redisConnection, connectTimeout, socketTimeout);
+        repository.setRetryPolicy(retryPolicy);
+        repository.setCircuitBreaker(circuitBreaker);
+        return repository;
+    }
+
+    /**
+     * Enables refresh-ahead for cached entries with an expiration time: when such an entry is read within the given
+     * window before it expires, it is reloaded from Redis in the background while the current value keeps being
+     * served. Reloads are deduplicated per key and run on a dedicated connection, so they never block callers.
+     *
+     * A reload of an entry whose expiration did not change is not repeated for a quarter of the window.
+     *
+     * @param window        the time before expiration in which a read triggers a reload
+     * @param queueCapacity the maximum number of queued reloads, further reloads are dropped
+     */
+    public void enableRefreshAhead(Duration window, int queueCapacity) {
+        enableRefreshAhead(window, window.dividedBy(4), queueCapacity);
+    }
+
+    /**
+     * Enables refresh-ahead, see {@link #enableRefreshAhead(Duration, int)}, with the given cooldown between reloads
+     * of an entry whose expiration did not change, like a key which was not written since.
+     *
+     * @param window        the time before expiration in which a read triggers a reload
+     * @param cooldown      the time after a reload in which the same expiration time is not reloaded again
+     * @param queueCapacity the maximum number of queued reloads, further reloads are dropped
+     */
+    public synchronized void enableRefreshAhead(Duration window, Duration cooldown, int queueCapacity) {
+        disableRefreshAhead();
+        // A single reload thread, because the reload connection must not be shared between threads
+        this.refreshRepository = createRedisRepository();
+        this.refreshAheadScheduler = new RefreshAheadScheduler(window, cooldown, 1, queueCapacity);
+    }
+
+    /**
+     * Disables refresh-ahead, see {@link #enableRefreshAhead(Duration, int)}.
+     */
+    public synchronized void disableRefreshAhead() {
+        if (refreshAheadScheduler == null) return;
+
+        refreshAheadScheduler.close();
+        refreshRepository.close();
+        this.refreshAheadScheduler = null;
+        this.refreshRepository = null;
+    }
+
+    /**
+     * Enables hot key tracking: every read is recorded in a {@link HotKeyTracker} of fixed size, see
+     * {@link #getHotKeys(int)}. Optionally, cached entries of hot keys are pinned: they are served from memory
+     * without the {@code EXISTS} round trip other cached entries without an expiration need. Pinned entries still
+     * reflect writes through this repository, but keys deleted in Redis by other clients keep being served until
+     * they are no longer hot.
+     *
+     * @param topK       the number of hot keys to track
+     * @param pinHotKeys whether cached hot keys are served without checking Redis
+     */
+    public synchronized void enableHotKeyTracking(int topK, boolean pinHotKeys) {
+        this.hotKeyTracker = new HotKeyTracker(topK);
+        this.pinHotKeys = pinHotKeys;
+    }
+
+    /**
+     * Disables hot key tracking and pinning, see {@link #enableHotKeyTracking(int, boolean)}.
+     */
+    public synchronized void disableHotKeyTracking() {
+        this.hotKeyTracker = null;
+        this.pinHotKeys = false;
+    }
+
+    /**
+     * Returns the most frequently read keys with their estimated read counts, hottest first.
+     *
+     * @param limit the maximum number of keys to return
+     * @return the hottest keys, empty if hot key tracking is disabled
+     */
+    public List<Map.Entry<String, Long>> getHotKeys(int limit) {
+        HotKeyTracker tracker = this.hotKeyTracker;
+        return tracker == null ? Collections.emptyList() : tracker.getHotKeys(limit);
+    }
+
+    private void refresh(String key) {
+        RedisDataRepository<T> repository = this.refreshRepository;
+        if (repository == null) return;
+
+        ExpiringValue<T> loaded = repository.getDataWithExpiration(key);
+        if (loaded.getValue() != null) {
+            inMemoryDataRepository.storeDataUntil(key, loaded.getValue(), loaded.getExpiresAt());
+        }
+    }
+
+    @Override
+    public Stream<String> scanKeys(String prefix) {
+        return redisDataRepository.scanKeys(prefix);
+    }
+
+    /**
+     * Prefetches all entries whose keys start with the given prefix from the Redis database into the in-memory cache.
+     * Entries are fetched in bulk batches of the given size.
+     *
+     * @param prefix    the prefix the keys have to start with, an empty string matches all keys
+     * @param batchSize the number of entries fetched per batch
+     * @return the number of entries loaded into the cache
+     */
+    public int warmUp(String prefix, int batchSize) {
+        int loaded = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Stream<String> keys = redisDataRepository.scanKeys(prefix)) {
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize || !iterator.hasNext()) {
+                    Map<String, T> data = redisDataRepository.getAllData(batch);
+                    data.forEach(inMemoryDataRepository::storeData);
+                    loaded += data.size();
+                    batch.clear();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Saves a snapshot of the most frequently read cache entries, see {@link InMemoryDataRepository#saveSnapshot(Path, int)}.
+     *
+     * @param file       the file to write the snapshot to
+     * @param maxEntries the maximum number of entries to include
+     * @return the number of entries written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public int saveSnapshot(Path file, int maxEntries) throws IOException {
+        return inMemoryDataRepository.saveSnapshot(file, maxEntries);
+    }
+
+    /**
+     * Loads a snapshot into the in-memory cache, see {@link InMemoryDataRepository#loadSnapshot(Path)}.
+     *
+     * @param file the snapshot file
+     * @return the number of entries loaded, 0 if the file does not exist
+     * @throws IOException if the snapshot cannot be read
+     */
+    public int loadSnapshot(Path file) throws IOException {
+        return inMemoryDataRepository.loadSnapshot(file);
+    }
+
+    /**
+     * Periodically saves a snapshot of the in-memory cache, see {@link InMemoryDataRepository#scheduleSnapshots(Path, int, Duration)}.
+     *
+     * @param file       the file to write the snapshots to
+     * @param maxEntries the maximum number of entries to include
+     * @param interval   the interval between two snapshots
+     */
+    public void scheduleSnapshots(Path file, int maxEntries, Duration interval) {
+        inMemoryDataRepository.scheduleSnapshots(file, maxEntries, interval);
+    }
+
+    /**
+     * Stops refresh-ahead and scheduled snapshots, saves a final snapshot, makes a last attempt to replay queued
+     * writes and closes the Redis connection.
+     */
+    @Override
+    public void close() {
+        disableRefreshAhead();
+        nextReplayMillis = 0;
+        replayPendingWrites();
+        inMemoryDataRepository.close();
+        redisDataRepository.close();
+    }
+
+    /**
+     * Returns the metrics of the cache layer. Hits and misses refer to the in-memory cache, serialized sizes and
+     * errors are recorded by the backing {@link RedisDataRepository}, see {@link #getRedisMetrics()}.
+     *
+     * @return the metrics of this repository
+     */
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the metrics of the backing {@link RedisDataRepository}
+     */
+    public RepositoryMetrics getRedisMetrics() {
+        return redisDataRepository.getMetrics();
     }
 
 }
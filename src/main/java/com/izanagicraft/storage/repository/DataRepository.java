@@ -46,6 +46,9 @@
 
 package com.izanagicraft.storage.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -84,11 +87,51 @@ public interface DataRepository<T> {
      */
     boolean isStored(String key);
 
+    /**
+     * Removes the data associated with the specified key.
+     * The default implementation throws, so implementations written before this method was added keep compiling.
+     *
+     * @param key the key to remove data for
+     * @return true if data was removed, false if none was stored
+     * @throws UnsupportedOperationException if the repository does not support removing data
+     */
+    default boolean removeData(String key) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support removing data");
+    }
+
     /**
      * Clears the storage, removing all stored data.
      */
     void clearStorage();
 
+    /**
+     * Retrieves the data associated with each of the specified keys.
+     * Implementations backed by remote or slow storage should override this method to fetch the keys in bulk.
+     *
+     * @param keys the keys to retrieve data for
+     * @return a map of the found keys to their data, keys without data are absent
+     */
+    default Map<String, T> getAllData(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        for (String key : keys) {
+            T value = getData(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stores each of the specified entries.
+     * Implementations backed by remote or slow storage should override this method to store the entries in bulk.
+     *
+     * @param data the keys and the data to store with them
+     */
+    default void storeAllData(Map<String, T> data) {
+        data.forEach(this::storeData);
+    }
+
     /**
      * Asynchronously retrieves data associated with the specified key.
      *
@@ -0,0 +1,138 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.utils.DurationParser;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:ExpiringDataRepository
+ * <p>
+ * A {@link DataRepository} whose data can be stored with an expiration time, after which it is no longer returned
+ * and eventually removed from the storage.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public interface ExpiringDataRepository<T> extends DataRepository<T> {
+
+    /**
+     * Stores data with the specified key and an expiration time.
+     *
+     * @param key               the key to store data
+     * @param value             the data to be stored
+     * @param expirationSeconds the seconds after which the data will expire
+     * @return the stored data
+     */
+    T storeDataWithExpiration(String key, T value, long expirationSeconds);
+
+    /**
+     * Stores data with the specified key and an expiration time with millisecond precision.
+     * The default implementation rounds the expiration up to whole seconds. An expiration which is zero or negative
+     * removes the data stored with the key instead, as the data would have expired right away.
+     *
+     * @param key        the key to store data
+     * @param value      the data to be stored
+     * @param expiration the time after which the data will expire
+     * @return the stored data
+     */
+    default T storeDataWithExpiration(String key, T value, Duration expiration) {
+        if (expiration.isNegative() || expiration.isZero()) {
+            removeData(key);
+            return value;
+        }
+        return storeDataWithExpiration(key, value, expiration.getSeconds() + (expiration.getNano() > 0 ? 1 : 0));
+    }
+
+    /**
+     * Stores data with the specified key and an absolute expiration time.
+     * The default implementation converts it to a time relative to now, so a point in time which has already passed
+     * removes the data stored with the key.
+     *
+     * @param key       the key to store data
+     * @param value     the data to be stored
+     * @param expiresAt the point in time at which the data will expire
+     * @return the stored data
+     */
+    default T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return storeDataWithExpiration(key, value, Duration.between(Instant.now(), expiresAt));
+    }
+
+    /**
+     * Stores the provided data with the specified key and an expiration time.
+     * The expiration time is represented as a string in a format that includes
+     * years (y), months (M), weeks (w), days (d), hours (h), minutes (m),
+     * seconds (s), and milliseconds (ms).
+     *
+     * @param key        the key to store the data
+     * @param value      the data to be stored
+     * @param expiration a string representing the expiration time in the format
+     *                   "yMdHmsms" (e.g., "1d12h30m" for 1 day, 12 hours, and 30 minutes)
+     * @return the stored data
+     * @throws IllegalArgumentException if the provided expiration string has an invalid format
+     */
+    default T storeDataWithExpiration(String key, T value, String expiration) {
+        // Delegates to the Duration based method after parsing the expiration string, keeping millisecond precision
+        return storeDataWithExpiration(key, value, parseTimeString(expiration));
+    }
+
+    /**
+     * Parses the given time string and returns the equivalent {@link Duration}.
+     *
+     * @param timeString the time string to be parsed
+     * @return the {@link Duration} equivalent of the parsed time string
+     * @throws IllegalArgumentException if the time string has an invalid format
+     * @see DurationParser#parse(String)
+     */
+    default Duration parseTimeString(String timeString) {
+        return DurationParser.parse(timeString);
+    }
+
+}
@@ -46,20 +46,88 @@
 
 package com.izanagicraft.storage.repository;
 
+import com.izanagicraft.storage.io.BufferValueView;
+import com.izanagicraft.storage.io.ByteBufferInputStream;
+import com.izanagicraft.storage.io.ChunkedOutputStream;
+import com.izanagicraft.storage.io.ValueView;
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
 import com.izanagicraft.storage.utils.SerializationUtils;
+import com.izanagicraft.storage.utils.StripedLock;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
 
 /**
  * data-storage; com.izanagicraft.storage.repository:FileDataRepository
+ * <p>
+ * Every value is stored as its plain Java serialization in a file of its own. Files written by earlier versions,
+ * which wrapped the serialized bytes in a second object stream, are still read transparently.
+ * <p>
+ * Data files are never modified in place: a value is written to a temporary file next to its data file, which then
+ * atomically replaces it. Readers therefore need no locks, they always see a complete version of the value.
+ * Replacing the data file of a key is serialized by striped locks and, if enabled, by a region lock on a
+ * {@code .lock} file in the base directory, which extends this to other processes sharing the directory.
+ * <p>
+ * Data files of values stored with an expiration time start with a small header holding it, expired values are
+ * never returned. Each such key is also appended to an expiry index in the {@code .expiry} directory, bucketed by
+ * expiration time. A background sweeper, started with the first expiring value or when an index exists on
+ * construction, deletes the files of past buckets in bounded batches, so it never scans the data directory.
+ * <p>
+ * Optionally, the repository keeps the set of stored keys in memory, so lookups of missing keys return without
+ * touching the file system. The set is loaded in the background from a checksummed manifest written on
+ * {@link #close()}, or rebuilt by walking the data directory, see {@link FileKeyIndex}; lookups go to the file
+ * system until it is loaded, so opening even a directory of millions of keys takes no longer than without it.
  *
  * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
  * @since 13.12.2023
  */
 
-public class FileDataRepository<T> implements DataRepository<T> {
+public class FileDataRepository<T> implements ScannableDataRepository<T>, ViewableDataRepository<T>, StreamingDataRepository<T>,
+        ExpiringDataRepository<T>, InstrumentedRepository, AutoCloseable {
+
+    /**
+     * Files of at least this size are memory-mapped by {@link #getView(String)} instead of being read onto the heap.
+     */
+    private static final int MAP_THRESHOLD = 64 * 1024;
+
+    /**
+     * The size of the chunks written and read sequentially by the streaming methods.
+     */
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    private static final int LOCK_STRIPES = 64;
+    private static final String LOCK_FILE = ".lock";
+    private static final String KEY_MANIFEST = ".manifest";
+
+    private static final int EXPIRING_MAGIC = 0x495A4558; // "IZEX"
+    private static final int EXPIRING_HEADER_SIZE = 12;
+    private static final String EXPIRY_DIRECTORY = ".expiry";
+    private static final String EXPIRY_BUCKET_SUFFIX = ".idx";
+    private static final long EXPIRY_BUCKET_MILLIS = 10_000;
+    private static final long SWEEP_INTERVAL_MILLIS = 1_000;
+    private static final int SWEEP_BATCH_SIZE = 1_000;
 
     private final File baseDirectory;
+    private final StripedLock locks = new StripedLock(LOCK_STRIPES);
+    private final FileChannel lockChannel;
+    private final Path expiryDirectory;
+    private final Object expiryIndexLock = new Object();
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private final FileKeyIndex keyIndex;
+    private volatile ScheduledExecutorService expirySweeper;
 
     /**
      * Constructs a {@code FileDataRepository} with the specified base path.
@@ -68,10 +136,7 @@ public class FileDataRepository<T> implements DataRepository<T> {
      * @param baseDirectoryPath the base path where data files will be stored
      */
     public FileDataRepository(String baseDirectoryPath) {
-        this.baseDirectory = new File(baseDirectoryPath);
-        if (!this.baseDirectory.exists()) {
-            this.baseDirectory.mkdirs();
-        }
+        this(new File(baseDirectoryPath), false);
     }
 
     /**
@@ -80,10 +145,60 @@ public class FileDataRepository<T> implements DataRepository<T> {
      * @param baseDirectory the base directory where data files will be stored
      */
     public FileDataRepository(File baseDirectory) {
+        this(baseDirectory, false);
+    }
+
+    /**
+     * Constructs a {@code FileDataRepository} with the specified base directory.
+     * With process locking enabled, writers also lock a region of the {@code .lock} file in the base directory,
+     * so repositories in different processes sharing the directory do not write the same key concurrently.
+     *
+     * @param baseDirectory  the base directory where data files will be stored
+     * @param processLocking whether writers should also be serialized across processes
+     * @throws UncheckedIOException if process locking is enabled and the lock file cannot be opened
+     */
+    public FileDataRepository(File baseDirectory, boolean processLocking) {
+        this(baseDirectory, processLocking, false);
+    }
+
+    /**
+     * Constructs a {@code FileDataRepository} with the specified base directory.
+     * With the key index enabled, the stored keys are kept in memory, so lookups of missing keys do not touch the
+     * file system. The index relies on all writes going through this repository, so it cannot be combined with
+     * process locking, and the directory must not be modified by others while the repository is closed.
+     *
+     * @param baseDirectory  the base directory where data files will be stored
+     * @param processLocking whether writers should also be serialized across processes
+     * @param keyIndex       whether the stored keys should be indexed in memory
+     * @throws IllegalArgumentException if both process locking and the key index are enabled
+     * @throws UncheckedIOException     if process locking is enabled and the lock file cannot be opened
+     */
+    public FileDataRepository(File baseDirectory, boolean processLocking, boolean keyIndex) {
+        if (processLocking && keyIndex) {
+            throw new IllegalArgumentException("The key index cannot be used with process locking");
+        }
         this.baseDirectory = baseDirectory;
         if (!baseDirectory.exists()) {
             baseDirectory.mkdirs();
         }
+
+        if (processLocking) {
+            try {
+                this.lockChannel = FileChannel.open(new File(baseDirectory, LOCK_FILE).toPath(),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            this.lockChannel = null;
+        }
+
+        this.expiryDirectory = baseDirectory.toPath().resolve(EXPIRY_DIRECTORY);
+        if (Files.isDirectory(expiryDirectory)) {
+            startExpirySweeper();
+        }
+
+        this.keyIndex = keyIndex ? new FileKeyIndex(baseDirectory.toPath().resolve(KEY_MANIFEST), () -> scanKeys("")) : null;
     }
 
     /**
@@ -101,37 +216,689 @@ public class FileDataRepository<T> implements DataRepository<T> {
 
     @Override
     public T getData(String key) {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(getKeyFilePath(key)))) {
-            return SerializationUtils.deserialize(ois.readAllBytes());
+        return getDataWithExpiration(key).getValue();
+    }
+
+    /**
+     * Retrieves data associated with the specified key together with its expiration time.
+     *
+     * @param key the key to retrieve data
+     * @return the data and its expiration time, the data is null if not found or expired
+     */
+    ExpiringValue<T> getDataWithExpiration(String key) {
+        long start = System.nanoTime();
+        try {
+            if (isKnownMissing(key)) {
+                metrics.recordMiss();
+                return new ExpiringValue<>(null, 0);
+            }
+            ByteBuffer file = readFile(Path.of(getKeyFilePath(key)), false);
+            long expiresAt = getExpiresAt(file);
+            if (expiresAt != 0 && expiresAt <= System.currentTimeMillis()) {
+                metrics.recordMiss();
+                return new ExpiringValue<>(null, 0);
+            }
+
+            ByteBuffer serializedValue = getSerializedValue(file);
+            metrics.recordBytesRead(serializedValue.remaining());
+            T value = SerializationUtils.deserialize(new ByteBufferInputStream(serializedValue));
+            metrics.recordHit();
+            return new ExpiringValue<>(value, expiresAt);
+        } catch (NoSuchFileException e) {
+            metrics.recordMiss();
+            return new ExpiringValue<>(null, 0);
         } catch (IOException | ClassNotFoundException e) {
-            return null;
+            metrics.recordError();
+            return new ExpiringValue<>(null, 0);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
         }
     }
 
     @Override
     public T storeData(String key, T value) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(getKeyFilePath(key)))) {
-            oos.write(SerializationUtils.serialize(value));
+        return storeDataUntil(key, value, 0);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expirationSeconds * 1000);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expiration.toMillis());
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return storeDataUntil(key, value, expiresAt.toEpochMilli());
+    }
+
+    /**
+     * Stores data with the specified key which is no longer returned once the given time has passed.
+     *
+     * @param key             the key to store data
+     * @param value           the data to be stored
+     * @param expiresAtMillis the expiration time in epoch milliseconds, or 0 if the data never expires
+     * @return the stored data
+     */
+    T storeDataUntil(String key, T value, long expiresAtMillis) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = SerializationUtils.serialize(value);
+            Path target = Path.of(getKeyFilePath(key));
+            Path temporary = createTemporaryFile(target);
+            try {
+                if (expiresAtMillis != 0) {
+                    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                        out.writeInt(EXPIRING_MAGIC);
+                        out.writeLong(expiresAtMillis);
+                        out.write(serializedValue);
+                    }
+                } else {
+                    Files.write(temporary, serializedValue);
+                }
+                commit(key, temporary, target);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            if (expiresAtMillis != 0) {
+                indexExpiration(key, expiresAtMillis);
+            }
+            metrics.recordBytesWritten(serializedValue.length);
         } catch (IOException e) {
+            metrics.recordError();
             e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
         }
         return value;
     }
 
+    /**
+     * Retrieves a lazy view of the data associated with the specified key.
+     * Files of 64 KiB or more are memory-mapped, so their bytes are never copied onto the heap.
+     *
+     * @param key the key to retrieve data
+     * @return a view of the data associated with the key, or null if not found
+     */
+    @Override
+    public ValueView<T> getView(String key) {
+        long start = System.nanoTime();
+        try {
+            if (isKnownMissing(key)) {
+                metrics.recordMiss();
+                return null;
+            }
+            ByteBuffer file = readFile(Path.of(getKeyFilePath(key)), true);
+            long expiresAt = getExpiresAt(file);
+            if (expiresAt != 0 && expiresAt <= System.currentTimeMillis()) {
+                metrics.recordMiss();
+                return null;
+            }
+
+            ByteBuffer serializedValue = getSerializedValue(file);
+            metrics.recordBytesRead(serializedValue.remaining());
+            metrics.recordHit();
+            return new BufferValueView<>(serializedValue);
+        } catch (NoSuchFileException e) {
+            metrics.recordMiss();
+            return null;
+        } catch (IOException e) {
+            metrics.recordError();
+            return null;
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Opens a stream writing the serialized value sequentially to a temporary file, in chunks of 64 KiB.
+     * The temporary file replaces the data file of the specified key when the stream is closed.
+     *
+     * @param key the key to store the data
+     * @return a stream accepting the serialized value
+     * @throws IOException if the file cannot be opened
+     */
+    @Override
+    public OutputStream openOutputStream(String key) throws IOException {
+        long start = System.nanoTime();
+        Path target = Path.of(getKeyFilePath(key));
+        Path temporary;
+        FileOutputStream out;
+        try {
+            temporary = createTemporaryFile(target);
+            out = new FileOutputStream(temporary.toFile());
+        } catch (IOException e) {
+            metrics.recordError();
+            throw e;
+        }
+
+        return new ChunkedOutputStream(STREAM_CHUNK_SIZE) {
+            @Override
+            protected void writeChunk(int index, byte[] chunk, int length) throws IOException {
+                out.write(chunk, 0, length);
+            }
+
+            @Override
+            protected void complete(int chunkCount, long size) throws IOException {
+                try {
+                    out.close();
+                    commit(key, temporary, target);
+                    metrics.recordBytesWritten(size);
+                } catch (IOException e) {
+                    metrics.recordError();
+                    throw e;
+                } finally {
+                    Files.deleteIfExists(temporary);
+                    metrics.recordWrite(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            protected void discard(int chunkCount) throws IOException {
+                metrics.recordError();
+                out.close();
+                Files.deleteIfExists(temporary);
+            }
+        };
+    }
+
+    /**
+     * Opens a stream reading the serialized value sequentially from the file of the specified key,
+     * in chunks of 64 KiB.
+     *
+     * @param key the key to retrieve data
+     * @return a stream over the serialized value, or null if not found or expired
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public InputStream openInputStream(String key) throws IOException {
+        long start = System.nanoTime();
+        FileInputStream file = null;
+        try {
+            if (isKnownMissing(key)) {
+                metrics.recordMiss();
+                return null;
+            }
+            file = new FileInputStream(getKeyFilePath(key));
+            metrics.recordBytesRead(file.getChannel().size());
+
+            BufferedInputStream in = new BufferedInputStream(file, STREAM_CHUNK_SIZE);
+            in.mark(EXPIRING_HEADER_SIZE);
+            ByteBuffer header = ByteBuffer.wrap(in.readNBytes(EXPIRING_HEADER_SIZE));
+            long expiresAt = getExpiresAt(header);
+            if (expiresAt != 0 && expiresAt <= System.currentTimeMillis()) {
+                file.close();
+                metrics.recordMiss();
+                return null;
+            }
+            if (expiresAt == 0) {
+                // Without an expiration header the value starts at the beginning of the file
+                in.reset();
+            }
+
+            metrics.recordHit();
+            return expiresAt == 0 && isLegacyFormat(header) ? new ObjectInputStream(in) : in;
+        } catch (FileNotFoundException e) {
+            metrics.recordMiss();
+            return null;
+        } catch (IOException e) {
+            metrics.recordError();
+            if (file != null) file.close();
+            throw e;
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in the directory of the given data file, creating the directory if needed.
+     * Its name does not end with {@code .dat}, so it is never mistaken for a data file.
+     */
+    private static Path createTemporaryFile(Path target) throws IOException {
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, "." + target.getFileName(), ".tmp");
+    }
+
+    /**
+     * Replaces the data file of a key with a completely written temporary file while holding the locks of the key.
+     */
+    private void commit(String key, Path temporary, Path target) throws IOException {
+        withKeyLocked(key, () -> {
+            if (keyIndex != null) keyIndex.add(indexKey(key));
+            replace(temporary, target);
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action while holding the stripe lock of a key and, if enabled, the region of the lock file.
+     */
+    private <R> R withKeyLocked(String key, IOAction<R> action) throws IOException {
+        int stripe = locks.stripeOf(key);
+        Lock lock = locks.getLock(stripe);
+        lock.lock();
+        try {
+            FileLock processLock = lockProcessStripe(stripe);
+            try {
+                return action.run();
+            } finally {
+                if (processLock != null) processLock.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Locks the region of the lock file belonging to a stripe, if process locking is enabled.
+     * The stripe lock has to be held already, so no other thread of this process can hold the region.
+     *
+     * @return the region lock, or null if process locking is disabled
+     */
+    private FileLock lockProcessStripe(int stripe) throws IOException {
+        return lockChannel != null ? lockChannel.lock(stripe, 1, false) : null;
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the given data file.
+     *
+     * @param path     the data file
+     * @param mappable whether large files may be memory-mapped instead of read onto the heap
+     * @return a buffer holding the content of the file
+     * @throws IOException if the file cannot be read
+     */
+    private static ByteBuffer readFile(Path path, boolean mappable) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file too large: " + path);
+            }
+
+            ByteBuffer buffer;
+            if (mappable && size >= MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) break;
+                }
+                buffer.flip();
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Extracts the serialized value from the content of a data file, skipping the expiration header and unwrapping
+     * the legacy format.
+     *
+     * @param file the content of the data file
+     * @return a buffer holding the serialized value
+     * @throws IOException if a legacy file cannot be unwrapped
+     */
+    private static ByteBuffer getSerializedValue(ByteBuffer file) throws IOException {
+        if (getExpiresAt(file) != 0) {
+            return file.position(file.position() + EXPIRING_HEADER_SIZE).slice();
+        }
+        if (isLegacyFormat(file)) {
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteBufferInputStream(file))) {
+                return ByteBuffer.wrap(ois.readAllBytes());
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Detects files written by earlier versions, which wrapped the serialized value as block data in another
+     * object stream. A plain serialized object starts with an object type code after the stream header instead.
+     */
+    private static boolean isLegacyFormat(ByteBuffer buffer) {
+        if (buffer.remaining() < 5) return false;
+
+        byte typeCode = buffer.get(buffer.position() + 4);
+        return typeCode == ObjectStreamConstants.TC_BLOCKDATA || typeCode == ObjectStreamConstants.TC_BLOCKDATALONG;
+    }
+
+    /**
+     * Reads the expiration time from the header of a data file.
+     *
+     * @param buffer the beginning of the data file, it is not modified
+     * @return the expiration time in epoch milliseconds, or 0 if the value does not expire
+     */
+    private static long getExpiresAt(ByteBuffer buffer) {
+        if (buffer.remaining() < EXPIRING_HEADER_SIZE || buffer.getInt(buffer.position()) != EXPIRING_MAGIC) return 0;
+        return buffer.getLong(buffer.position() + 4);
+    }
+
+    /**
+     * Reads the expiration time from the header of a data file.
+     *
+     * @return the expiration time in epoch milliseconds, 0 if the value does not expire, or -1 if the file does not exist
+     */
+    private static long readExpiresAt(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(EXPIRING_HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) break;
+            }
+            return getExpiresAt(header.flip());
+        } catch (NoSuchFileException e) {
+            return -1;
+        }
+    }
+
     @Override
     public boolean isStored(String key) {
-        File file = new File(getKeyFilePath(key));
-        return file.exists();
+        if (isKnownMissing(key)) return false;
+        try {
+            long expiresAt = readExpiresAt(Path.of(getKeyFilePath(key)));
+            return expiresAt == 0 || expiresAt > System.currentTimeMillis();
+        } catch (IOException e) {
+            metrics.recordError();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        Path path = Path.of(getKeyFilePath(key));
+        try {
+            // An entry of the key in the expiry index finds nothing to delete later
+            return withKeyLocked(key, () -> {
+                boolean deleted = Files.deleteIfExists(path);
+                if (deleted && keyIndex != null) keyIndex.remove(indexKey(key));
+                return deleted;
+            });
+        } catch (IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    /**
+     * Appends a key to the expiry index bucket of its expiration time.
+     */
+    private void indexExpiration(String key, long expiresAtMillis) throws IOException {
+        Path bucket = expiryDirectory.resolve(expiresAtMillis / EXPIRY_BUCKET_MILLIS + EXPIRY_BUCKET_SUFFIX);
+        synchronized (expiryIndexLock) {
+            Files.createDirectories(expiryDirectory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(bucket, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                out.writeUTF(key);
+            }
+        }
+        if (expirySweeper == null) {
+            startExpirySweeper();
+        }
+    }
+
+    private synchronized void startExpirySweeper() {
+        if (expirySweeper != null) return;
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-storage-file-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweepExpired();
+            } catch (IOException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        this.expirySweeper = sweeper;
+    }
+
+    /**
+     * Deletes the data files of expired values, visiting at most 1000 keys of the expiry index buckets which lie
+     * completely in the past. Keys which were stored again since do not have their files deleted. This is done
+     * periodically in the background, calling it directly is only needed to sweep at a specific time.
+     *
+     * @return the number of deleted data files
+     * @throws IOException if the expiry index cannot be read or updated
+     */
+    public int sweepExpired() throws IOException {
+        if (!Files.isDirectory(expiryDirectory)) return 0;
+
+        long now = System.currentTimeMillis();
+        long currentBucket = now / EXPIRY_BUCKET_MILLIS;
+        List<Long> dueBuckets = new ArrayList<>();
+        try (DirectoryStream<Path> buckets = Files.newDirectoryStream(expiryDirectory, "*" + EXPIRY_BUCKET_SUFFIX)) {
+            for (Path bucket : buckets) {
+                String name = bucket.getFileName().toString();
+                long index = Long.parseLong(name.substring(0, name.length() - EXPIRY_BUCKET_SUFFIX.length()));
+                if (index < currentBucket) {
+                    dueBuckets.add(index);
+                }
+            }
+        }
+        Collections.sort(dueBuckets);
+
+        int budget = SWEEP_BATCH_SIZE;
+        int deleted = 0;
+        for (long index : dueBuckets) {
+            if (budget == 0) break;
+
+            Path bucket = expiryDirectory.resolve(index + EXPIRY_BUCKET_SUFFIX);
+            // Held while the bucket is consumed, so no key appended meanwhile is lost when the bucket is rewritten
+            synchronized (expiryIndexLock) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(bucket)))) {
+                    boolean exhausted = false;
+                    for (; budget > 0; budget--) {
+                        String key;
+                        try {
+                            key = in.readUTF();
+                        } catch (EOFException e) {
+                            // Also ends the bucket at a record torn by a crash
+                            exhausted = true;
+                            break;
+                        }
+                        if (deleteIfExpired(key, now)) {
+                            deleted++;
+                        }
+                    }
+
+                    if (!exhausted) {
+                        // Keep the keys not visited in this batch for the next sweep
+                        Path temporary = Files.createTempFile(expiryDirectory, "." + bucket.getFileName(), ".tmp");
+                        try {
+                            long remaining;
+                            try (OutputStream out = Files.newOutputStream(temporary)) {
+                                remaining = in.transferTo(out);
+                            }
+                            if (remaining > 0) {
+                                replace(temporary, bucket);
+                                continue;
+                            }
+                        } finally {
+                            Files.deleteIfExists(temporary);
+                        }
+                    }
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                Files.deleteIfExists(bucket);
+            }
+        }
+        return deleted;
+    }
+
+    private boolean deleteIfExpired(String key, long now) throws IOException {
+        Path path = Path.of(getKeyFilePath(key));
+        return withKeyLocked(key, () -> {
+            long expiresAt = readExpiresAt(path);
+            boolean deleted = expiresAt > 0 && expiresAt <= now && Files.deleteIfExists(path);
+            if (deleted && keyIndex != null) keyIndex.remove(indexKey(key));
+            return deleted;
+        });
     }
 
     @Override
     public void clearStorage() {
-        File[] files = baseDirectory.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                file.delete();
+        Path basePath = baseDirectory.toPath();
+        Path lockPath = basePath.resolve(LOCK_FILE);
+        try (Stream<Path> paths = Files.walk(basePath)) {
+            Iterator<Path> iterator = paths.sorted(Comparator.reverseOrder())
+                    .filter(path -> !path.equals(basePath) && !path.equals(lockPath))
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                if (keyIndex != null && path.getFileName().toString().endsWith(".dat")) {
+                    // Locked like removeData, so no concurrent write of the key is dropped from the index
+                    String key = toKey(basePath.relativize(path));
+                    withKeyLocked(key, () -> {
+                        if (path.toFile().delete()) keyIndex.remove(key);
+                        return null;
+                    });
+                } else {
+                    path.toFile().delete();
+                }
             }
+        } catch (IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
         }
     }
 
+    /**
+     * Retrieves the data associated with each of the specified keys, reading the files in parallel.
+     *
+     * @param keys the keys to retrieve data for
+     * @return a map of the found keys to their data, keys without data are absent
+     */
+    @Override
+    public Map<String, T> getAllData(Collection<String> keys) {
+        Map<String, T> result = new ConcurrentHashMap<>();
+        keys.parallelStream().forEach(key -> {
+            T value = getData(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stores each of the specified entries, writing the files in parallel.
+     *
+     * @param data the keys and the data to store with them
+     */
+    @Override
+    public void storeAllData(Map<String, T> data) {
+        data.entrySet().parallelStream().forEach(entry -> storeData(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Enumerates the keys by walking the data files below the base directory.
+     * If the prefix contains a '.', only the directory matching the part before the last '.' is walked.
+     * The returned stream holds open directories and must be closed after use.
+     *
+     * @param prefix the prefix the keys have to start with, an empty string matches all keys
+     * @return a stream of the matching keys
+     */
+    @Override
+    public Stream<String> scanKeys(String prefix) {
+        Path basePath = baseDirectory.toPath();
+        int lastDot = prefix.lastIndexOf('.');
+        Path start = lastDot < 0 ? basePath : basePath.resolve(prefix.substring(0, lastDot).replace('.', File.separatorChar));
+        if (!Files.isDirectory(start)) return Stream.empty();
+
+        try {
+            return Files.walk(start)
+                    .filter(path -> path.getFileName().toString().endsWith(".dat") && Files.isRegularFile(path))
+                    .map(path -> toKey(basePath.relativize(path)))
+                    .filter(key -> key.startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return whether the key index is enabled and certain that no data file exists for the key
+     */
+    private boolean isKnownMissing(String key) {
+        return keyIndex != null && !keyIndex.mightContain(indexKey(key));
+    }
+
+    /**
+     * Maps a key onto the key {@link #scanKeys(String)} returns for its data file, as different keys like
+     * {@code "a.b"} and {@code "a/b"} share a file.
+     */
+    private String indexKey(String key) {
+        return toKey(baseDirectory.toPath().relativize(Path.of(getKeyFilePath(key))));
+    }
+
+    /**
+     * @return whether the key index is enabled and loaded, so lookups of missing keys no longer touch the file system
+     */
+    public boolean isKeyIndexReady() {
+        return keyIndex != null && keyIndex.isReady();
+    }
+
+    /**
+     * Reverses {@link #getKeyFilePath(String)} for a data file path relative to the base directory.
+     */
+    private static String toKey(Path relativePath) {
+        String path = relativePath.toString();
+        return path.substring(0, path.length() - ".dat".length()).replace(File.separatorChar, '.');
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops the background sweep of expired values, writes the manifest of the key index if it is enabled and
+     * closes the lock file if process locking is enabled.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (expirySweeper != null) {
+                expirySweeper.shutdown();
+                expirySweeper = null;
+            }
+        }
+        if (keyIndex != null) {
+            try {
+                keyIndex.close();
+            } catch (IOException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }
+        if (lockChannel == null) return;
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    /**
+     * An action on the files of a key which may fail with an {@link IOException}.
+     */
+    @FunctionalInterface
+    private interface IOAction<R> {
+
+        R run() throws IOException;
+
+    }
+
 }
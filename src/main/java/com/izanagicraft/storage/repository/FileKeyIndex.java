@@ -0,0 +1,232 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.io.ByteBufferInputStream;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:FileKeyIndex
+ * <p>
+ * The set of keys stored by a {@link FileDataRepository}, which lets lookups of missing keys return without touching
+ * the file system. The set is filled in the background, so opening a repository never waits for it: from the
+ * manifest written by the last {@link #close()}, which is memory-mapped and verified by its CRC32, or, if there is
+ * no valid manifest, by walking the data directory. Until it is filled, {@link #mightContain(String)} answers
+ * true and lookups go to the file system.
+ * <p>
+ * The manifest is deleted as soon as it is loaded, so after a crash the keys are never taken from a manifest which
+ * missed later writes. Keys are added before their data file is replaced and removed after it was deleted, so the
+ * set may hold keys without a file, but never misses a stored key.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+final class FileKeyIndex {
+
+    private static final int MANIFEST_MAGIC = 0x495A4B49; // "IZKI"
+    private static final int MANIFEST_HEADER_SIZE = 8;
+
+    private final Path manifest;
+    private final Set<String> keys = ConcurrentHashMap.newKeySet();
+    private final Thread loader;
+    private volatile boolean ready;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a {@code FileKeyIndex} and starts filling it in the background.
+     *
+     * @param manifest the path of the manifest
+     * @param scanner  enumerates all keys stored in the data directory, used if the manifest is missing or invalid
+     */
+    FileKeyIndex(Path manifest, Supplier<Stream<String>> scanner) {
+        this.manifest = manifest;
+        this.loader = new Thread(() -> load(scanner), "data-storage-file-key-index");
+        this.loader.setDaemon(true);
+        this.loader.start();
+    }
+
+    private void load(Supplier<Stream<String>> scanner) {
+        try {
+            if (loadManifest()) {
+                ready = true;
+                return;
+            }
+            try (Stream<String> stored = scanner.get()) {
+                stored.takeWhile(key -> !closed).forEach(keys::add);
+            }
+            ready = !closed;
+        } catch (IOException | UncheckedIOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    /**
+     * Adds the keys of a valid manifest and deletes it.
+     *
+     * @return whether a valid manifest was loaded
+     */
+    private boolean loadManifest() throws IOException {
+        List<String> loaded = new ArrayList<>();
+        boolean valid = false;
+        try (FileChannel channel = FileChannel.open(manifest, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MANIFEST_HEADER_SIZE + Long.BYTES && size <= Integer.MAX_VALUE) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int contentSize = (int) size - Long.BYTES;
+                CRC32 crc = new CRC32();
+                crc.update(buffer.slice(0, contentSize));
+
+                if (crc.getValue() == buffer.getLong(contentSize) && buffer.getInt(0) == MANIFEST_MAGIC) {
+                    int count = buffer.getInt(Integer.BYTES);
+                    DataInputStream in = new DataInputStream(new ByteBufferInputStream(
+                            buffer.slice(MANIFEST_HEADER_SIZE, contentSize - MANIFEST_HEADER_SIZE)));
+                    for (int i = 0; i < count; i++) {
+                        loaded.add(in.readUTF());
+                    }
+                    valid = true;
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (EOFException e) {
+            // The key count does not match the keys despite a valid checksum, the keys are scanned instead
+            valid = false;
+        }
+
+        Files.deleteIfExists(manifest);
+        if (valid) {
+            keys.addAll(loaded);
+        }
+        return valid;
+    }
+
+    /**
+     * @param key the key to look up
+     * @return false if the key is certainly not stored, true if it is or the index is not filled yet
+     */
+    boolean mightContain(String key) {
+        return !ready || keys.contains(key);
+    }
+
+    /**
+     * Adds a key, before its data file is replaced.
+     *
+     * @param key the key to add
+     */
+    void add(String key) {
+        keys.add(key);
+    }
+
+    /**
+     * Removes a key, after its data file was deleted.
+     *
+     * @param key the key to remove
+     */
+    void remove(String key) {
+        keys.remove(key);
+    }
+
+    /**
+     * @return whether the index is filled and answers lookups
+     */
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Stops filling the index and, if it was filled, writes the manifest for the next start.
+     * No keys may be added or removed anymore.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    void close() throws IOException {
+        closed = true;
+        try {
+            loader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!ready) return;
+
+        List<String> snapshot = new ArrayList<>(keys);
+        Path temporary = Files.createTempFile(manifest.getParent(), manifest.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+                out.writeInt(MANIFEST_MAGIC);
+                out.writeInt(snapshot.size());
+                for (String key : snapshot) {
+                    out.writeUTF(key);
+                }
+                out.flush();
+                new DataOutputStream(file).writeLong(crc.getValue());
+            }
+            try {
+                Files.move(temporary, manifest, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, manifest, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+}
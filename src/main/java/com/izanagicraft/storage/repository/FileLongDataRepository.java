@@ -0,0 +1,327 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.utils.StringLongHashMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:FileLongDataRepository
+ * <p>
+ * An implementation of the {@link LongDataRepository} interface that stores all values in a single file of
+ * fixed-width slots. Every slot holds the key (at most {@value #MAX_KEY_BYTES} UTF-8 bytes) and its value, so
+ * updating a value is a single positional 8 byte write. The file is read once when the repository is opened and
+ * reads are served from memory afterwards. Slots of removed keys are marked as empty and reused by new keys, so
+ * the file only grows with the largest number of keys stored at once.
+ * <p>
+ * Writes are not forced to the storage device, call {@link #flush()} when durability is required.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class FileLongDataRepository implements LongDataRepository, InstrumentedRepository, AutoCloseable {
+
+    /**
+     * The maximum length of a key in UTF-8 bytes.
+     */
+    public static final int MAX_KEY_BYTES = 54;
+
+    // Slot layout: unsigned short key length, key bytes padded to MAX_KEY_BYTES, long value
+    private static final int SLOT_SIZE = Short.BYTES + MAX_KEY_BYTES + Long.BYTES;
+    private static final int VALUE_OFFSET = SLOT_SIZE - Long.BYTES;
+
+    private final FileChannel channel;
+    private final StringLongHashMap slots = new StringLongHashMap(64);
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private final ByteBuffer valueBuffer = ByteBuffer.allocateDirect(Long.BYTES);
+    private final ByteBuffer slotBuffer = ByteBuffer.allocateDirect(SLOT_SIZE);
+    private long[] values = new long[64];
+    private int slotCount;
+    // Empty slots, used as a stack
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+
+    /**
+     * Constructs a {@code FileLongDataRepository} storing its values in the file at the specified path.
+     *
+     * @param filePath the path of the slot file, it is created if it does not exist
+     * @throws UncheckedIOException if the file cannot be opened or read
+     */
+    public FileLongDataRepository(String filePath) {
+        this(new File(filePath));
+    }
+
+    /**
+     * Constructs a {@code FileLongDataRepository} storing its values in the specified file.
+     *
+     * @param file the slot file, it is created if it does not exist
+     * @throws UncheckedIOException if the file cannot be opened or read
+     */
+    public FileLongDataRepository(File file) {
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (!parent.exists()) {
+                parent.mkdirs();
+            }
+            this.channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load() throws IOException {
+        // A trailing partial slot from an interrupted write is ignored and overwritten by the next new key
+        long completeSlots = channel.size() / SLOT_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(SLOT_SIZE * 1024);
+        byte[] keyBytes = new byte[MAX_KEY_BYTES];
+        long position = 0;
+
+        while (slotCount < completeSlots) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            position += read;
+            buffer.flip();
+
+            while (buffer.remaining() >= SLOT_SIZE && slotCount < completeSlots) {
+                int keyLength = Short.toUnsignedInt(buffer.getShort());
+                buffer.get(keyBytes);
+                long value = buffer.getLong();
+                if (keyLength > 0 && keyLength <= MAX_KEY_BYTES) {
+                    addSlot(new String(keyBytes, 0, keyLength, StandardCharsets.UTF_8), value);
+                } else {
+                    freeSlot(addSlot(null, 0));
+                }
+            }
+
+            // Continue after the last complete slot if the read ended in the middle of one
+            position -= buffer.remaining();
+        }
+    }
+
+    private int addSlot(String key, long value) {
+        int slot = slotCount++;
+        if (slot == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        values[slot] = value;
+        if (key != null) {
+            slots.put(key, slot);
+        }
+        return slot;
+    }
+
+    private void freeSlot(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length << 1);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    @Override
+    public synchronized long getLong(String key) {
+        metrics.recordRead();
+        int slot = (int) slots.get(key, -1);
+        return slot >= 0 ? values[slot] : 0;
+    }
+
+    @Override
+    public synchronized Long getData(String key) {
+        metrics.recordRead();
+        int slot = (int) slots.get(key, -1);
+        return slot >= 0 ? values[slot] : null;
+    }
+
+    @Override
+    public synchronized long setLong(String key, long value) {
+        try {
+            write(key, value);
+        } catch (IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+        return value;
+    }
+
+    /**
+     * Adds the delta to the value and writes the result to the slot file.
+     *
+     * @param key   the key of the value
+     * @param delta the amount to add, may be negative
+     * @return the value after the increment
+     * @throws UncheckedIOException if the value cannot be written, the stored value is left unchanged
+     */
+    @Override
+    public synchronized long incrementBy(String key, long delta) {
+        int slot = (int) slots.get(key, -1);
+        long value = (slot >= 0 ? values[slot] : 0) + delta;
+        try {
+            write(key, value);
+        } catch (IOException e) {
+            metrics.recordError();
+            throw new UncheckedIOException(e);
+        }
+        return value;
+    }
+
+    private void write(String key, long value) throws IOException {
+        long start = System.nanoTime();
+        try {
+            int slot = (int) slots.get(key, -1);
+            if (slot >= 0) {
+                valueBuffer.clear();
+                valueBuffer.putLong(value).flip();
+                writeFully(valueBuffer, (long) slot * SLOT_SIZE + VALUE_OFFSET);
+                metrics.recordBytesWritten(Long.BYTES);
+            } else {
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                if (keyBytes.length == 0 || keyBytes.length > MAX_KEY_BYTES) {
+                    throw new IllegalArgumentException("Key must be between 1 and " + MAX_KEY_BYTES + " UTF-8 bytes: " + key);
+                }
+                slotBuffer.clear();
+                slotBuffer.putShort((short) keyBytes.length).put(keyBytes);
+                slotBuffer.position(VALUE_OFFSET);
+                slotBuffer.putLong(value).flip();
+                if (freeSlotCount > 0) {
+                    slot = freeSlots[freeSlotCount - 1];
+                    writeFully(slotBuffer, (long) slot * SLOT_SIZE);
+                    freeSlotCount--;
+                    slots.put(key, slot);
+                } else {
+                    writeFully(slotBuffer, (long) slotCount * SLOT_SIZE);
+                    slot = addSlot(key, value);
+                }
+                metrics.recordBytesWritten(SLOT_SIZE);
+            }
+            values[slot] = value;
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @Override
+    public synchronized boolean isStored(String key) {
+        return slots.containsKey(key);
+    }
+
+    @Override
+    public synchronized boolean removeData(String key) {
+        int slot = (int) slots.get(key, -1);
+        if (slot < 0) return false;
+        try {
+            // A zero key length marks the slot as empty, it is reused by the next new key
+            valueBuffer.clear();
+            valueBuffer.putShort((short) 0).flip();
+            writeFully(valueBuffer, (long) slot * SLOT_SIZE);
+            slots.remove(key);
+            freeSlot(slot);
+            return true;
+        } catch (IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void clearStorage() {
+        try {
+            channel.truncate(0);
+            slots.clear();
+            slotCount = 0;
+            freeSlotCount = 0;
+        } catch (IOException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    /**
+     * Forces all written values to the storage device.
+     *
+     * @throws IOException if the values cannot be forced
+     */
+    public synchronized void flush() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Flushes and closes the slot file.
+     *
+     * @throws IOException if the file cannot be flushed or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) return;
+        channel.force(false);
+        channel.close();
+    }
+
+}
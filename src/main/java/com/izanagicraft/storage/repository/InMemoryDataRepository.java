@@ -46,21 +46,60 @@
 
 package com.izanagicraft.storage.repository;
 
-import java.util.Map;
+import com.izanagicraft.storage.cache.TimerWheel;
+import com.izanagicraft.storage.io.ObjectValueView;
+import com.izanagicraft.storage.io.ValueView;
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.utils.SerializationUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * redis-handler; com.izanagicraft.redis.repository:InMemoryDataRepository
  * <p>
  * An implementation of the {@link DataRepository} interface that stores and retrieves data using files.
+ * <p>
+ * The repository counts how often each entry is read, which allows writing a snapshot of the most frequently
+ * read entries (see {@link #writeSnapshot(OutputStream, int)}) and loading it after a restart, so a cache
+ * does not have to be refilled from its backend.
+ * <p>
+ * Expired entries are never returned and are dropped when they are read. Entries which are not read again are
+ * removed by a background sweep over a {@link TimerWheel}, which is started with the first expiring entry and only
+ * visits the entries due since its last run.
  *
  * @param <T> the type of data to be stored/retrieved
  * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
  * @since 13.12.2023
  */
-public class InMemoryDataRepository<T> implements DataRepository<T> {
+public class InMemoryDataRepository<T> implements ScannableDataRepository<T>, ViewableDataRepository<T>, ExpiringDataRepository<T>,
+        InstrumentedRepository, AutoCloseable {
 
-    private final Map<String, T> cache;
+    private static final int SNAPSHOT_MAGIC = 0x495A5350; // "IZSP"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private static final Duration EXPIRY_TICK = Duration.ofSeconds(1);
+    private static final int EXPIRY_SLOTS = 512;
+
+    private final Map<String, Entry<T>> cache;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private volatile TimerWheel expiryWheel;
+    private ScheduledExecutorService expirySweeper;
+    private ScheduledExecutorService snapshotScheduler;
+    private Path snapshotFile;
+    private int snapshotMaxEntries;
 
     /**
      * Constructs an {@code InMemoryDataRepository} with an internal {@link ConcurrentHashMap} to store data.
@@ -72,23 +111,396 @@ public class InMemoryDataRepository<T> implements DataRepository<T> {
 
     @Override
     public T getData(String key) {
-        return cache.get(key);
+        Entry<T> entry = getEntry(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Retrieves a view of the data associated with the specified key.
+     * The value is held deserialized, it is only serialized when the bytes of the view are accessed.
+     *
+     * @param key the key to retrieve data
+     * @return a view of the data associated with the key, or null if not found
+     */
+    @Override
+    public ValueView<T> getView(String key) {
+        Entry<T> entry = getEntry(key);
+        return entry != null ? new ObjectValueView<>(entry.value) : null;
     }
 
     @Override
     public T storeData(String key, T value) {
-        cache.put(key, value);
-        return value;
+        return storeDataUntil(key, value, 0);
     }
 
     @Override
     public boolean isStored(String key) {
-        return cache.containsKey(key);
+        Entry<T> entry = cache.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        // A scheduled expiration of the entry finds nothing to remove later
+        Entry<T> entry = cache.remove(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
     }
 
     @Override
     public void clearStorage() {
         cache.clear();
+        TimerWheel wheel = expiryWheel;
+        if (wheel != null) {
+            wheel.clear();
+        }
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expirationSeconds * 1000);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return storeDataUntil(key, value, System.currentTimeMillis() + expiration.toMillis());
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return storeDataUntil(key, value, expiresAt.toEpochMilli());
+    }
+
+    /**
+     * Retrieves the entry associated with the specified key, dropping it if it has expired.
+     *
+     * @param key the key to retrieve the entry for
+     * @return the entry associated with the key, or null if not found
+     */
+    Entry<T> getEntry(String key) {
+        // Lookups take nanoseconds, so only count them instead of timing them
+        Entry<T> entry = cache.get(key);
+        metrics.recordRead();
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, entry);
+            entry = null;
+        }
+        if (entry != null) {
+            metrics.recordHit();
+            entry.reads++;
+            return entry;
+        }
+        metrics.recordMiss();
+        return null;
+    }
+
+    /**
+     * Stores data with the specified key which is dropped once the given time has passed.
+     *
+     * @param key             the key to store data
+     * @param value           the data to be stored
+     * @param expiresAtMillis the expiration time in epoch milliseconds, or 0 if the data never expires
+     * @return the stored data
+     */
+    T storeDataUntil(String key, T value, long expiresAtMillis) {
+        cache.put(key, new Entry<>(value, expiresAtMillis));
+        if (expiresAtMillis != 0) {
+            scheduleExpiration(key, expiresAtMillis);
+        }
+        metrics.recordWrite();
+        return value;
+    }
+
+    private void scheduleExpiration(String key, long expiresAtMillis) {
+        TimerWheel wheel = expiryWheel;
+        if (wheel == null) {
+            wheel = startExpirySweeper();
+        }
+        wheel.schedule(key, expiresAtMillis);
+    }
+
+    private synchronized TimerWheel startExpirySweeper() {
+        if (expiryWheel != null) return expiryWheel;
+
+        TimerWheel wheel = new TimerWheel(EXPIRY_TICK, EXPIRY_SLOTS);
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-storage-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tick = EXPIRY_TICK.toMillis();
+        sweeper.scheduleWithFixedDelay(() -> sweepExpired(wheel), tick, tick, TimeUnit.MILLISECONDS);
+
+        this.expirySweeper = sweeper;
+        this.expiryWheel = wheel;
+        return wheel;
+    }
+
+    private void sweepExpired(TimerWheel wheel) {
+        long now = System.currentTimeMillis();
+        wheel.advance(now, key -> {
+            // The key may have been stored again with another expiration time since it was scheduled
+            Entry<T> entry = cache.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                cache.remove(key, entry);
+            }
+        });
+    }
+
+    @Override
+    public Stream<String> scanKeys(String prefix) {
+        return cache.keySet().stream().filter(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Writes a compact binary snapshot of the most frequently read entries to the given stream.
+     * Entries whose values cannot be serialized are skipped.
+     *
+     * @param out        the stream to write the snapshot to, it is not closed
+     * @param maxEntries the maximum number of entries to include
+     * @return the number of entries written
+     * @throws IOException if writing to the stream fails
+     */
+    public int writeSnapshot(OutputStream out, int maxEntries) throws IOException {
+        // Select the hottest entries with a bounded min-heap instead of sorting the whole cache
+        PriorityQueue<Map.Entry<String, Entry<T>>> hottest =
+                new PriorityQueue<>(Comparator.comparingInt(candidate -> candidate.getValue().reads));
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Entry<T>> candidate : cache.entrySet()) {
+            if (candidate.getValue().isExpired(now)) continue;
+            if (hottest.size() < maxEntries) {
+                hottest.add(candidate);
+            } else if (maxEntries > 0 && hottest.peek().getValue().reads < candidate.getValue().reads) {
+                hottest.poll();
+                hottest.add(candidate);
+            }
+        }
+
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(SNAPSHOT_MAGIC);
+        dos.writeByte(SNAPSHOT_VERSION);
+
+        int written = 0;
+        for (Map.Entry<String, Entry<T>> entry : hottest) {
+            byte[] serializedValue;
+            try {
+                serializedValue = SerializationUtils.serialize(entry.getValue().value);
+            } catch (NotSerializableException e) {
+                continue;
+            }
+            dos.writeBoolean(true);
+            dos.writeUTF(entry.getKey());
+            dos.writeLong(entry.getValue().expiresAt);
+            dos.writeInt(serializedValue.length);
+            dos.write(serializedValue);
+            written++;
+        }
+        dos.writeBoolean(false);
+        dos.flush();
+        return written;
+    }
+
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(OutputStream, int)} into this repository.
+     * The snapshot is read sequentially, the values are deserialized in parallel.
+     * Entries already present in the repository are not overwritten unless they have expired, expired entries of
+     * the snapshot are skipped.
+     *
+     * @param in the stream to read the snapshot from, it is not closed
+     * @return the number of entries loaded
+     * @throws IOException if reading from the stream fails or it does not contain a valid snapshot
+     */
+    public int readSnapshot(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+        int version;
+        if (dis.readInt() != SNAPSHOT_MAGIC || (version = dis.readByte()) < 1 || version > SNAPSHOT_VERSION) {
+            throw new IOException("Not a supported snapshot");
+        }
+
+        long now = System.currentTimeMillis();
+        List<SnapshotEntry> entries = new ArrayList<>();
+        while (dis.readBoolean()) {
+            String key = dis.readUTF();
+            long expiresAt = version >= 2 ? dis.readLong() : 0; // Version 1 snapshots did not store expiration times
+            byte[] serializedValue = new byte[dis.readInt()];
+            dis.readFully(serializedValue);
+            if (expiresAt == 0 || expiresAt > now) {
+                entries.add(new SnapshotEntry(key, expiresAt, serializedValue));
+            }
+        }
+
+        AtomicInteger loaded = new AtomicInteger();
+        entries.parallelStream().forEach(entry -> {
+            try {
+                Entry<T> loadedEntry = new Entry<>(SerializationUtils.deserialize(entry.serializedValue), entry.expiresAt);
+                // An expired entry which was not swept yet is as good as absent
+                Entry<T> stored = cache.compute(entry.key,
+                        (key, existing) -> existing == null || existing.isExpired(now) ? loadedEntry : existing);
+                if (stored == loadedEntry) {
+                    if (entry.expiresAt != 0) {
+                        scheduleExpiration(entry.key, entry.expiresAt);
+                    }
+                    loaded.incrementAndGet();
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                e.printStackTrace(); // Skip entries of classes which are no longer available
+            }
+        });
+        return loaded.get();
+    }
+
+    /**
+     * Writes a snapshot of the most frequently read entries to the given file.
+     * The snapshot is written to a temporary file first, so an existing snapshot is only replaced by a complete one.
+     *
+     * @param file       the file to write the snapshot to
+     * @param maxEntries the maximum number of entries to include
+     * @return the number of entries written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public int saveSnapshot(Path file, int maxEntries) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            int written;
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                written = writeSnapshot(out, maxEntries);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return written;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Loads a snapshot previously saved with {@link #saveSnapshot(Path, int)}.
+     *
+     * @param file the snapshot file
+     * @return the number of entries loaded, 0 if the file does not exist
+     * @throws IOException if the snapshot cannot be read
+     */
+    public int loadSnapshot(Path file) throws IOException {
+        if (!Files.exists(file)) return 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            return readSnapshot(in);
+        }
+    }
+
+    /**
+     * Periodically saves a snapshot of the most frequently read entries to the given file.
+     * A final snapshot is saved when the repository is {@link #close() closed}.
+     * Calling this method again replaces the previous schedule.
+     *
+     * @param file       the file to write the snapshots to
+     * @param maxEntries the maximum number of entries to include
+     * @param interval   the interval between two snapshots
+     */
+    public synchronized void scheduleSnapshots(Path file, int maxEntries, Duration interval) {
+        stopSnapshots(false);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-storage-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                saveSnapshot(file, maxEntries);
+            } catch (IOException e) {
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+
+        this.snapshotScheduler = scheduler;
+        this.snapshotFile = file;
+        this.snapshotMaxEntries = maxEntries;
+    }
+
+    private synchronized void stopSnapshots(boolean saveFinalSnapshot) {
+        if (snapshotScheduler == null) return;
+
+        snapshotScheduler.shutdown();
+        try {
+            // Wait for a running snapshot, so the final one never races with it for the same file
+            snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+            if (saveFinalSnapshot) {
+                saveSnapshot(snapshotFile, snapshotMaxEntries);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+        this.snapshotScheduler = null;
+        this.snapshotFile = null;
+    }
+
+    /**
+     * Stops scheduled snapshots and saves a final one, see {@link #scheduleSnapshots(Path, int, Duration)}.
+     * Also stops the background sweep of expired entries.
+     */
+    @Override
+    public void close() {
+        stopSnapshots(true);
+        synchronized (this) {
+            if (expirySweeper != null) {
+                expirySweeper.shutdown();
+                expirySweeper = null;
+                expiryWheel = null;
+            }
+        }
+    }
+
+    /**
+     * A stored value together with its expiration time and approximate read count.
+     * The count is updated without synchronization, lost updates are acceptable for ranking entries by hotness.
+     */
+    static final class Entry<T> {
+
+        private final T value;
+        private final long expiresAt;
+        private int reads;
+
+        private Entry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        /**
+         * @return the expiration time in epoch milliseconds, or 0 if the entry never expires
+         */
+        long getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now >= expiresAt;
+        }
+
+    }
+
+    private static final class SnapshotEntry {
+
+        private final String key;
+        private final long expiresAt;
+        private final byte[] serializedValue;
+
+        private SnapshotEntry(String key, long expiresAt, byte[] serializedValue) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+            this.serializedValue = serializedValue;
+        }
+
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.utils.StringLongHashMap;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:InMemoryLongDataRepository
+ * <p>
+ * An implementation of the {@link LongDataRepository} interface that keeps the values in memory.
+ * Keys are spread over several segments, each a {@link StringLongHashMap} guarded by its own lock,
+ * so updates of different keys rarely contend and no update allocates.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class InMemoryLongDataRepository implements LongDataRepository, InstrumentedRepository {
+
+    private static final int SEGMENTS = 16;
+
+    private final StringLongHashMap[] segments = new StringLongHashMap[SEGMENTS];
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * Constructs an empty {@code InMemoryLongDataRepository}.
+     */
+    public InMemoryLongDataRepository() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new StringLongHashMap(16);
+        }
+    }
+
+    private StringLongHashMap segment(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    @Override
+    public long getLong(String key) {
+        StringLongHashMap segment = segment(key);
+        metrics.recordRead();
+        synchronized (segment) {
+            return segment.get(key, 0);
+        }
+    }
+
+    @Override
+    public long setLong(String key, long value) {
+        StringLongHashMap segment = segment(key);
+        metrics.recordWrite();
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public long incrementBy(String key, long delta) {
+        StringLongHashMap segment = segment(key);
+        metrics.recordWrite();
+        synchronized (segment) {
+            return segment.addAndGet(key, delta);
+        }
+    }
+
+    @Override
+    public Long getData(String key) {
+        StringLongHashMap segment = segment(key);
+        metrics.recordRead();
+        synchronized (segment) {
+            return segment.containsKey(key) ? segment.get(key, 0) : null;
+        }
+    }
+
+    @Override
+    public boolean isStored(String key) {
+        StringLongHashMap segment = segment(key);
+        synchronized (segment) {
+            return segment.containsKey(key);
+        }
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        StringLongHashMap segment = segment(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    @Override
+    public void clearStorage() {
+        for (StringLongHashMap segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:LongDataRepository
+ * <p>
+ * A repository specialized for {@code long} values such as counters.
+ * Values are handled as primitives throughout, so reading, writing and incrementing them neither boxes nor goes
+ * through Java serialization. The boxed {@link DataRepository} methods are provided for compatibility.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public interface LongDataRepository extends DataRepository<Long> {
+
+    /**
+     * Retrieves the value associated with the specified key.
+     *
+     * @param key the key to retrieve the value
+     * @return the value associated with the key, or 0 if not found
+     */
+    long getLong(String key);
+
+    /**
+     * Stores the value with the specified key.
+     *
+     * @param key   the key to store the value
+     * @param value the value to be stored
+     * @return the stored value
+     */
+    long setLong(String key, long value);
+
+    /**
+     * Atomically adds the delta to the value associated with the specified key.
+     * Keys without a value start at 0. If the increment cannot be applied an unchecked exception is thrown, as no
+     * returned value could be told apart from a real counter value.
+     *
+     * @param key   the key of the value
+     * @param delta the amount to add, may be negative
+     * @return the value after the increment
+     */
+    long incrementBy(String key, long delta);
+
+    /**
+     * Atomically increments the value associated with the specified key by one.
+     *
+     * @param key the key of the value
+     * @return the value after the increment
+     */
+    default long increment(String key) {
+        return incrementBy(key, 1);
+    }
+
+    @Override
+    default Long getData(String key) {
+        return isStored(key) ? getLong(key) : null;
+    }
+
+    @Override
+    default Long storeData(String key, Long value) {
+        setLong(key, value);
+        return value;
+    }
+
+}
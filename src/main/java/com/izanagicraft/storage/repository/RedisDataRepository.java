@@ -46,25 +46,83 @@
 
 package com.izanagicraft.storage.repository;
 
+import com.izanagicraft.storage.io.BufferValueView;
+import com.izanagicraft.storage.io.ChunkedInputStream;
+import com.izanagicraft.storage.io.ChunkedOutputStream;
+import com.izanagicraft.storage.io.ValueView;
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.resilience.CircuitBreaker;
+import com.izanagicraft.storage.resilience.CircuitOpenException;
+import com.izanagicraft.storage.resilience.RetryPolicy;
 import com.izanagicraft.storage.utils.SerializationUtils;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.JedisURIHelper;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 /**
  * data-storage; com.izanagicraft.storage.repository:RedisDataRepository
  * <p>
  * An implementation of the {@link DataRepository} interface that stores and retrieves data using a Redis database.
  * It uses the Jedis library for communication with the Redis server.
+ * <p>
+ * Values written through {@link #openOutputStream(String)} are stored in chunks of 1 MiB, described by a key
+ * holding the generation and the number of chunks. Both live in a namespace starting with a NUL character, which
+ * keys passed to this repository must not start with; they are never returned by {@link #scanKeys(String)}, which
+ * reports the key of a streamed value instead. Chunks expire after a day until the stream is closed, so a crashed
+ * writer leaves nothing behind, hence a streamed value must be written within that time. Such values are read by
+ * {@link #getData(String)} and {@link #getAllData(Collection)} as well, but not by the views or the cached
+ * repositories.
+ * <p>
+ * Plain writes remove the descriptor of a streamed value in the same {@code MULTI} transaction and delete its chunks
+ * afterwards, so replaced chunks never linger. Every write is therefore sent as {@code MULTI}, {@code SET},
+ * {@code GETDEL} and {@code EXEC} in one round trip, which requires Redis 6.2 or newer, like the {@code PXAT}
+ * expirations.
+ * <p>
+ * Every Redis call goes through the configured {@link RetryPolicy} and {@link CircuitBreaker}. Connection failures,
+ * including timeouts, are retried with jittered backoff. Once the breaker opens, calls fail fast with a
+ * {@link CircuitOpenException} instead of waiting for the connection timeout, and such failures are only counted
+ * in the metrics, not printed.
  *
  * @param <T> the type of data to be stored/retrieved
  * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
  * @since 13.12.2023
  */
-public class RedisDataRepository<T> implements RedisRepository<T> {
+public class RedisDataRepository<T> implements RedisRepository<T>, ScannableDataRepository<T>, ViewableDataRepository<T>,
+        StreamingDataRepository<T>, InstrumentedRepository, AutoCloseable {
+
+    private static final int SCAN_COUNT = 1000;
+    private static final int STREAM_CHUNK_SIZE = 1024 * 1024;
+    private static final long CHUNK_TTL_MILLIS = Duration.ofDays(1).toMillis();
+    private static final String STREAM_NAMESPACE = "\u0000stream:";
+    private static final String DESCRIPTOR_PREFIX = STREAM_NAMESPACE + "d:";
 
     private final Jedis jedis;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    private volatile RetryPolicy retryPolicy = RetryPolicy.none();
+    private volatile CircuitBreaker circuitBreaker;
 
     /**
      * Constructs a {@code RedisDataRepository} with the specified Redis server host and port.
@@ -75,36 +133,151 @@ public class RedisDataRepository<T> implements RedisRepository<T> {
         this.jedis = new Jedis(connection);
     }
 
+    /**
+     * Constructs a {@code RedisDataRepository} with the specified Redis server connection string and timeouts.
+     *
+     * @param connection     the Redis server connection string, either a {@code redis://} URI or a host name
+     * @param connectTimeout the maximum time to wait for a connection to be established
+     * @param socketTimeout  the maximum time to wait for a reply
+     */
+    public RedisDataRepository(String connection, Duration connectTimeout, Duration socketTimeout) {
+        URI uri = URI.create(connection);
+        int connectTimeoutMillis = (int) connectTimeout.toMillis();
+        int socketTimeoutMillis = (int) socketTimeout.toMillis();
+        this.jedis = JedisURIHelper.isValid(uri)
+                ? new Jedis(uri, connectTimeoutMillis, socketTimeoutMillis)
+                : new Jedis(connection, Protocol.DEFAULT_PORT, connectTimeoutMillis, socketTimeoutMillis);
+    }
+
     @Override
     public T getData(String key) {
+        long start = System.nanoTime();
         try {
-            byte[] serializedValue = jedis.get(key.getBytes());
+            byte[] serializedValue = call(jedis -> jedis.get(key.getBytes()));
             if (serializedValue != null) {
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
                 return SerializationUtils.deserialize(serializedValue);
             }
+
+            // A value written through openOutputStream only has a descriptor
+            byte[] descriptor = call(jedis -> jedis.get(chunksKey(key)));
+            if (descriptor != null) {
+                metrics.recordHit();
+                try (InputStream in = openChunks(key, descriptor)) {
+                    return SerializationUtils.deserialize(in);
+                }
+            }
+            metrics.recordMiss();
         } catch (JedisException | IOException | ClassNotFoundException e) {
-            e.printStackTrace(); // Handle the exception based on your use case
+            recordError(e);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a lazy view of the data associated with the specified key.
+     * The view wraps the raw bytes received from Redis, they are only deserialized when the value is accessed.
+     *
+     * @param key the key to retrieve data
+     * @return a view of the data associated with the key, or null if not found
+     */
+    @Override
+    public ValueView<T> getView(String key) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = call(jedis -> jedis.get(key.getBytes()));
+            if (serializedValue != null) {
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
+                return new BufferValueView<>(serializedValue);
+            }
+            metrics.recordMiss();
+        } catch (JedisException e) {
+            recordError(e);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
         }
         return null;
     }
 
     @Override
     public T storeData(String key, T value) {
+        long start = System.nanoTime();
         try {
             byte[] serializedValue = SerializationUtils.serialize(value);
-            jedis.set(key.getBytes(), serializedValue);
+            setPlain(key, serializedValue, null);
+            metrics.recordBytesWritten(serializedValue.length);
         } catch (JedisException | IOException e) {
-            e.printStackTrace(); // Handle the exception based on your use case
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
         }
         return value;
     }
 
     @Override
     public boolean isStored(String key) {
+        return Boolean.TRUE.equals(exists(key));
+    }
+
+    /**
+     * Removes the data associated with the specified key, including the chunks of a value written through
+     * {@link #openOutputStream(String)}.
+     *
+     * @param key the key to remove data for
+     * @return true if data was removed, false if none was stored
+     */
+    @Override
+    public boolean removeData(String key) {
+        return Boolean.TRUE.equals(remove(key));
+    }
+
+    /**
+     * Removes the data associated with the specified key, distinguishing missing keys from failures.
+     *
+     * @param key the key to remove data for
+     * @return whether data was removed, or null if Redis could not be reached
+     */
+    Boolean remove(String key) {
         try {
-            return jedis.exists(key);
+            Map.Entry<Long, byte[]> reply = call(jedis -> {
+                try (Transaction transaction = jedis.multi()) {
+                    Response<Long> plainResponse = transaction.del(key.getBytes());
+                    Response<byte[]> descriptorResponse = transaction.getDel(chunksKey(key));
+                    transaction.exec();
+                    return new AbstractMap.SimpleImmutableEntry<>(plainResponse.get(), descriptorResponse.get());
+                }
+            });
+            if (reply.getValue() != null) {
+                deleteChunks(key, reply.getValue(), null);
+            }
+            return reply.getKey() > 0 || reply.getValue() != null;
+        } catch (JedisConnectionException | CircuitOpenException e) {
+            recordError(e);
+            return null;
         } catch (JedisException e) {
-            e.printStackTrace(); // Handle the exception based on your use case
+            recordError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks if data associated with the specified key is present, distinguishing missing keys from failures.
+     *
+     * @param key the key to check for
+     * @return whether the key exists, or null if Redis could not be reached
+     */
+    Boolean exists(String key) {
+        try {
+            return call(jedis -> jedis.exists(key.getBytes(), chunksKey(key)) > 0);
+        } catch (JedisConnectionException | CircuitOpenException e) {
+            recordError(e);
+            return null;
+        } catch (JedisException e) {
+            recordError(e);
             return false;
         }
     }
@@ -112,20 +285,605 @@ public class RedisDataRepository<T> implements RedisRepository<T> {
     @Override
     public void clearStorage() {
         try {
-            jedis.flushDB();
+            call(Jedis::flushDB);
         } catch (JedisException e) {
-            e.printStackTrace(); // Handle the exception based on your use case
+            recordError(e);
         }
     }
 
     @Override
     public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        long start = System.nanoTime();
         try {
             byte[] serializedValue = SerializationUtils.serialize(value);
-            jedis.setex(key.getBytes(), expirationSeconds, serializedValue);
+            setPlain(key, serializedValue, new SetParams().ex(expirationSeconds));
+            metrics.recordBytesWritten(serializedValue.length);
         } catch (JedisException | IOException e) {
-            e.printStackTrace(); // Handle the exception based on your use case
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
         }
         return value;
     }
+
+    /**
+     * Stores data with the specified key and an expiration time with millisecond precision using {@code SET} with
+     * {@code PX}.
+     *
+     * @param key        the key to store data
+     * @param value      the data to be stored
+     * @param expiration the time after which the data will expire
+     * @return the stored data
+     */
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = SerializationUtils.serialize(value);
+            setPlain(key, serializedValue, new SetParams().px(expiration.toMillis()));
+            metrics.recordBytesWritten(serializedValue.length);
+        } catch (JedisException | IOException e) {
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Stores data with the specified key and an absolute expiration time using {@code SET} with {@code PXAT},
+     * so the expiration does not depend on the latency of the request.
+     *
+     * @param key       the key to store data
+     * @param value     the data to be stored
+     * @param expiresAt the point in time at which the data will expire
+     * @return the stored data
+     */
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = SerializationUtils.serialize(value);
+            setPlain(key, serializedValue, new SetParams().pxAt(expiresAt.toEpochMilli()));
+            metrics.recordBytesWritten(serializedValue.length);
+        } catch (JedisException | IOException e) {
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Stores data with the specified key, distinguishing unreachable servers from other failures.
+     *
+     * @param key             the key to store data
+     * @param value           the data to be stored
+     * @param expiresAtMillis the expiration time in epoch milliseconds, 0 if the data does not expire
+     * @return false if Redis could not be reached and the write should be repeated later, true otherwise
+     */
+    boolean storeDataUntil(String key, T value, long expiresAtMillis) {
+        long start = System.nanoTime();
+        try {
+            byte[] serializedValue = SerializationUtils.serialize(value);
+            setPlain(key, serializedValue, expiresAtMillis == 0 ? null : new SetParams().pxAt(expiresAtMillis));
+            metrics.recordBytesWritten(serializedValue.length);
+        } catch (JedisConnectionException | CircuitOpenException e) {
+            recordError(e);
+            return false;
+        } catch (JedisException | IOException e) {
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves data associated with the specified key together with its expiration time,
+     * using a single pipelined {@code GET} and {@code PTTL} round trip.
+     *
+     * @param key the key to retrieve data
+     * @return the data and its expiration time, the data is null if not found
+     */
+    ExpiringValue<T> getDataWithExpiration(String key) {
+        long start = System.nanoTime();
+        try {
+            Map.Entry<byte[], Long> reply = call(jedis -> {
+                try (Pipeline pipeline = jedis.pipelined()) {
+                    Response<byte[]> serializedResponse = pipeline.get(key.getBytes());
+                    Response<Long> ttlResponse = pipeline.pttl(key.getBytes());
+                    pipeline.sync();
+                    return new AbstractMap.SimpleImmutableEntry<>(serializedResponse.get(), ttlResponse.get());
+                }
+            });
+
+            byte[] serializedValue = reply.getKey();
+            if (serializedValue == null) {
+                metrics.recordMiss();
+                return new ExpiringValue<>(null, 0);
+            }
+            metrics.recordHit();
+            metrics.recordBytesRead(serializedValue.length);
+
+            // PTTL answers -1 for keys without expiration
+            long ttl = reply.getValue();
+            long expiresAt = ttl > 0 ? System.currentTimeMillis() + ttl : 0;
+            return new ExpiringValue<>(SerializationUtils.deserialize(serializedValue), expiresAt);
+        } catch (JedisException | IOException | ClassNotFoundException e) {
+            recordError(e);
+            return new ExpiringValue<>(null, 0);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Opens a stream writing the serialized value in chunks of 1 MiB, so values beyond the Redis size limit can
+     * be stored. The chunks are written under a new generation and only become visible when the stream is closed,
+     * the chunks of the previous value and a plain value under the same key are deleted then.
+     *
+     * @param key the key to store the data
+     * @return a stream accepting the serialized value
+     */
+    @Override
+    public OutputStream openOutputStream(String key) {
+        checkKey(key);
+        long start = System.nanoTime();
+        String generation = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+        return new ChunkedOutputStream(STREAM_CHUNK_SIZE) {
+            @Override
+            protected void writeChunk(int index, byte[] chunk, int length) throws IOException {
+                try {
+                    byte[] value = length == chunk.length ? chunk : Arrays.copyOf(chunk, length);
+                    // Chunks of a writer which never completes expire on their own
+                    call(jedis -> jedis.set(chunkKey(key, generation, index), value, new SetParams().px(CHUNK_TTL_MILLIS)));
+                } catch (JedisException e) {
+                    metrics.recordError();
+                    throw new IOException("Could not write chunk " + index + " of " + key, e);
+                }
+            }
+
+            @Override
+            protected void complete(int chunkCount, long size) throws IOException {
+                try {
+                    // Swapped in one transaction, so a failure never leaves both a plain value and the new descriptor
+                    byte[] previous = call(jedis -> {
+                        try (Transaction transaction = jedis.multi()) {
+                            for (int i = 0; i < chunkCount; i++) {
+                                transaction.persist(chunkKey(key, generation, i));
+                            }
+                            Response<byte[]> previousResponse = transaction.setGet(chunksKey(key), (generation + ":" + chunkCount).getBytes(), new SetParams());
+                            transaction.del(key.getBytes());
+                            transaction.exec();
+                            return previousResponse.get();
+                        }
+                    });
+                    if (previous != null) {
+                        // A retried transaction may answer with the own generation if the first reply got lost
+                        deleteChunks(key, previous, generation);
+                    }
+                    metrics.recordBytesWritten(size);
+                } catch (JedisException e) {
+                    metrics.recordError();
+                    throw new IOException("Could not complete " + key, e);
+                } finally {
+                    metrics.recordWrite(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            protected void discard(int chunkCount) throws IOException {
+                try {
+                    deleteChunks(key, generation, chunkCount);
+                } catch (JedisException e) {
+                    throw new IOException("Could not discard the chunks of " + key, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Opens a stream reading the serialized value, fetching one chunk at a time.
+     * Plain values stored through {@link #storeData(String, Object)} are read as a single chunk.
+     *
+     * @param key the key to retrieve data
+     * @return a stream over the serialized value, or null if not found
+     * @throws IOException if the value cannot be read
+     */
+    @Override
+    public InputStream openInputStream(String key) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Map.Entry<byte[], byte[]> reply = call(jedis -> {
+                try (Pipeline pipeline = jedis.pipelined()) {
+                    Response<byte[]> plainResponse = pipeline.get(key.getBytes());
+                    Response<byte[]> chunksResponse = pipeline.get(chunksKey(key));
+                    pipeline.sync();
+                    return new AbstractMap.SimpleImmutableEntry<>(plainResponse.get(), chunksResponse.get());
+                }
+            });
+
+            byte[] serializedValue = reply.getKey();
+            if (serializedValue != null) {
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
+                return new ByteArrayInputStream(serializedValue);
+            }
+
+            byte[] chunks = reply.getValue();
+            if (chunks == null) {
+                metrics.recordMiss();
+                return null;
+            }
+            metrics.recordHit();
+            return openChunks(key, chunks);
+        } catch (JedisException e) {
+            metrics.recordError();
+            throw new IOException("Could not read " + key, e);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Opens a stream over the chunks referenced by a chunk descriptor of the form {@code <generation>:<chunkCount>}.
+     */
+    private ChunkedInputStream openChunks(String key, byte[] descriptor) {
+        String[] parts = new String(descriptor).split(":");
+        String generation = parts[0];
+        return new ChunkedInputStream(Integer.parseInt(parts[1])) {
+            @Override
+            protected byte[] readChunk(int index) throws IOException {
+                try {
+                    byte[] chunk = call(jedis -> jedis.get(chunkKey(key, generation, index)));
+                    if (chunk != null) metrics.recordBytesRead(chunk.length);
+                    return chunk;
+                } catch (JedisException e) {
+                    metrics.recordError();
+                    throw new IOException("Could not read chunk " + index + " of " + key, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Sets a plain value and, in the same transaction, removes the descriptor of a value written through
+     * {@link #openOutputStream(String)}, whose chunks are deleted afterwards so they do not linger.
+     *
+     * @param params the expiration of the value, or null if it does not expire
+     */
+    private void setPlain(String key, byte[] serializedValue, SetParams params) {
+        checkKey(key);
+        byte[] previous = call(jedis -> {
+            try (Transaction transaction = jedis.multi()) {
+                if (params == null) {
+                    transaction.set(key.getBytes(), serializedValue);
+                } else {
+                    transaction.set(key.getBytes(), serializedValue, params);
+                }
+                Response<byte[]> descriptorResponse = transaction.getDel(chunksKey(key));
+                transaction.exec();
+                return descriptorResponse.get();
+            }
+        });
+        if (previous != null) {
+            deleteChunks(key, previous, null);
+        }
+    }
+
+    /**
+     * Deletes the chunks referenced by a chunk descriptor of the form {@code <generation>:<chunkCount>}.
+     *
+     * @param keep a generation whose chunks must not be deleted, or null
+     */
+    private void deleteChunks(String key, byte[] descriptor, String keep) {
+        String[] parts = new String(descriptor).split(":");
+        if (parts[0].equals(keep)) return;
+        deleteChunks(key, parts[0], Integer.parseInt(parts[1]));
+    }
+
+    private void deleteChunks(String key, String generation, int chunkCount) {
+        if (chunkCount == 0) return;
+        call(jedis -> jedis.del(chunkKeys(key, generation, chunkCount)));
+    }
+
+    /**
+     * @return the keys of the chunks referenced by a chunk descriptor of the form {@code <generation>:<chunkCount>}
+     */
+    static byte[][] chunkKeys(String key, byte[] descriptor) {
+        String[] parts = new String(descriptor).split(":");
+        return chunkKeys(key, parts[0], Integer.parseInt(parts[1]));
+    }
+
+    private static byte[][] chunkKeys(String key, String generation, int chunkCount) {
+        byte[][] keys = new byte[chunkCount][];
+        for (int i = 0; i < chunkCount; i++) {
+            keys[i] = chunkKey(key, generation, i);
+        }
+        return keys;
+    }
+
+    /**
+     * Rejects keys inside the namespace of the streamed values, which could overwrite their descriptors or chunks.
+     */
+    static void checkKey(String key) {
+        if (!key.isEmpty() && key.charAt(0) == STREAM_NAMESPACE.charAt(0)) {
+            throw new IllegalArgumentException("Keys must not start with a NUL character");
+        }
+    }
+
+    /**
+     * @return the key of the descriptor of a value written through {@link #openOutputStream(String)}
+     */
+    static byte[] chunksKey(String key) {
+        return (DESCRIPTOR_PREFIX + key).getBytes();
+    }
+
+    private static byte[] chunkKey(String key, String generation, int index) {
+        return (STREAM_NAMESPACE + "c:" + generation + ":" + index + ":" + key).getBytes();
+    }
+
+    /**
+     * Retrieves the data associated with each of the specified keys using a single {@code MGET} round trip.
+     *
+     * @param keys the keys to retrieve data for
+     * @return a map of the found keys to their data, keys without data are absent
+     */
+    @Override
+    public Map<String, T> getAllData(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        if (keys.isEmpty()) return result;
+
+        long start = System.nanoTime();
+        try {
+            List<String> keyList = new ArrayList<>(keys);
+            byte[][] rawKeys = new byte[keyList.size()][];
+            for (int i = 0; i < rawKeys.length; i++) {
+                rawKeys[i] = keyList.get(i).getBytes();
+            }
+
+            List<byte[]> serializedValues = call(jedis -> jedis.mget(rawKeys));
+            List<String> missingKeys = new ArrayList<>();
+            for (int i = 0; i < rawKeys.length; i++) {
+                byte[] serializedValue = serializedValues.get(i);
+                if (serializedValue == null) {
+                    missingKeys.add(keyList.get(i));
+                    continue;
+                }
+                metrics.recordHit();
+                metrics.recordBytesRead(serializedValue.length);
+                try {
+                    result.put(keyList.get(i), SerializationUtils.deserialize(serializedValue));
+                } catch (IOException | ClassNotFoundException e) {
+                    metrics.recordError();
+                    e.printStackTrace(); // Handle the exception based on your use case
+                }
+            }
+            if (!missingKeys.isEmpty()) {
+                getAllStreamed(missingKeys, result);
+            }
+        } catch (JedisException e) {
+            recordError(e);
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the values of the given keys which were written through {@link #openOutputStream(String)}, fetching all
+     * descriptors in a single {@code MGET} round trip.
+     */
+    private void getAllStreamed(List<String> keys, Map<String, T> result) {
+        byte[][] descriptorKeys = new byte[keys.size()][];
+        for (int i = 0; i < descriptorKeys.length; i++) {
+            descriptorKeys[i] = chunksKey(keys.get(i));
+        }
+
+        List<byte[]> descriptors = call(jedis -> jedis.mget(descriptorKeys));
+        for (int i = 0; i < descriptorKeys.length; i++) {
+            byte[] descriptor = descriptors.get(i);
+            if (descriptor == null) {
+                metrics.recordMiss();
+                continue;
+            }
+            metrics.recordHit();
+            try (InputStream in = openChunks(keys.get(i), descriptor)) {
+                result.put(keys.get(i), SerializationUtils.deserialize(in));
+            } catch (IOException | ClassNotFoundException e) {
+                metrics.recordError();
+                e.printStackTrace(); // Handle the exception based on your use case
+            }
+        }
+    }
+
+    /**
+     * Stores each of the specified entries using a single round trip of {@code SET} commands in a transaction.
+     *
+     * @param data the keys and the data to store with them
+     */
+    @Override
+    public void storeAllData(Map<String, T> data) {
+        if (data.isEmpty()) return;
+
+        long start = System.nanoTime();
+        try {
+            // Serialize up front, so a retried pipeline only repeats the network round trip
+            Map<String, byte[]> serializedValues = new LinkedHashMap<>();
+            for (Map.Entry<String, T> entry : data.entrySet()) {
+                checkKey(entry.getKey());
+                try {
+                    serializedValues.put(entry.getKey(), SerializationUtils.serialize(entry.getValue()));
+                } catch (IOException e) {
+                    metrics.recordError();
+                    e.printStackTrace(); // Handle the exception based on your use case
+                }
+            }
+
+            // Like setPlain, the descriptors of streamed values are removed in the same transaction
+            Map<String, byte[]> descriptors = call(jedis -> {
+                try (Transaction transaction = jedis.multi()) {
+                    Map<String, Response<byte[]>> descriptorResponses = new LinkedHashMap<>();
+                    serializedValues.forEach((key, serializedValue) -> {
+                        transaction.set(key.getBytes(), serializedValue);
+                        descriptorResponses.put(key, transaction.getDel(chunksKey(key)));
+                    });
+                    transaction.exec();
+
+                    Map<String, byte[]> found = new LinkedHashMap<>();
+                    descriptorResponses.forEach((key, response) -> {
+                        if (response.get() != null) found.put(key, response.get());
+                    });
+                    return found;
+                }
+            });
+            descriptors.forEach((key, descriptor) -> deleteChunks(key, descriptor, null));
+            serializedValues.values().forEach(serializedValue -> metrics.recordBytesWritten(serializedValue.length));
+        } catch (JedisException e) {
+            recordError(e);
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Enumerates the keys using incremental {@code SCAN} calls, so large databases are never blocked.
+     * Glob characters in the prefix are matched literally. The chunks of streamed values are skipped, their keys
+     * are reported once through a second scan over the descriptors.
+     *
+     * @param prefix the prefix the keys have to start with, an empty string matches all keys
+     * @return a stream of the matching keys
+     */
+    @Override
+    public Stream<String> scanKeys(String prefix) {
+        // Plain values and descriptors never coexist, so no key is reported twice
+        Stream<String> plainKeys = scan(escapeGlob(prefix) + "*").filter(key -> !key.startsWith(STREAM_NAMESPACE));
+        Stream<String> streamedKeys = scan(escapeGlob(DESCRIPTOR_PREFIX + prefix) + "*")
+                .map(key -> key.substring(DESCRIPTOR_PREFIX.length()));
+        return Stream.concat(plainKeys, streamedKeys);
+    }
+
+    private Stream<String> scan(String pattern) {
+        ScanParams params = new ScanParams().match(pattern).count(SCAN_COUNT);
+        Iterator<String> iterator = new Iterator<>() {
+            private String cursor = ScanParams.SCAN_POINTER_START;
+            private Iterator<String> page = Collections.emptyIterator();
+            private boolean complete;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !complete) {
+                    String current = cursor;
+                    ScanResult<String> result = call(jedis -> jedis.scan(current, params));
+                    cursor = result.getCursor();
+                    complete = result.isCompleteIteration();
+                    page = result.getResult().iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return page.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false);
+    }
+
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Sets the policy for retrying calls which failed because of connection problems or timeouts.
+     *
+     * @param retryPolicy the retry policy, {@link RetryPolicy#none()} by default
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Sets the circuit breaker guarding the calls. Only connection problems and timeouts count as failures.
+     *
+     * @param circuitBreaker the circuit breaker, or null to always call Redis
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Checks whether calls are currently let through, i.e. there is no circuit breaker or it is not open.
+     *
+     * @return true if Redis is considered available
+     */
+    public boolean isAvailable() {
+        CircuitBreaker breaker = this.circuitBreaker;
+        return breaker == null || !breaker.isOpen();
+    }
+
+    private <R> R call(Function<Jedis, R> command) {
+        RetryPolicy retry = this.retryPolicy;
+        CircuitBreaker breaker = this.circuitBreaker;
+        for (int attempt = 1; ; attempt++) {
+            if (breaker != null && !breaker.tryAcquire()) throw new CircuitOpenException();
+
+            try {
+                R result = command.apply(jedis);
+                if (breaker != null) breaker.onSuccess();
+                return result;
+            } catch (JedisConnectionException e) {
+                // The connection is broken, drop it so the next attempt reconnects
+                jedis.disconnect();
+                if (breaker != null) breaker.onFailure();
+                if (attempt >= retry.getMaxAttempts()) throw e;
+                backOff(retry.getDelayMillis(attempt), e);
+            } catch (RuntimeException e) {
+                // Redis answered with an error, the server itself is reachable
+                if (breaker != null) breaker.onSuccess();
+                throw e;
+            }
+        }
+    }
+
+    private static void backOff(long delayMillis, JedisConnectionException cause) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private void recordError(Exception e) {
+        metrics.recordError();
+        // Failing fast is expected while the breaker is open, only the failures which opened it are reported
+        if (!(e instanceof CircuitOpenException)) {
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes the connection to the Redis server.
+     */
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
 }
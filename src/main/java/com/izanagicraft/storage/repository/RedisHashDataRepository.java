@@ -0,0 +1,329 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import com.izanagicraft.storage.utils.FieldCodec;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:RedisHashDataRepository
+ * <p>
+ * An implementation of the {@link DataRepository} interface that stores every object as a Redis hash, using a
+ * {@link FieldCodec} to map the object onto fields. Besides whole objects, single fields can be read and written
+ * through {@code HGET}, {@code HMGET} and {@code HSET}, so updating or reading a part of a large object only
+ * transfers that part.
+ * <p>
+ * Redis does not keep empty hashes, so storing an object without any fields removes the stored object. Likewise,
+ * storing an object with an expiration time which is not positive removes the stored object, as it would have
+ * expired right away.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class RedisHashDataRepository<T> implements RedisRepository<T>, InstrumentedRepository, AutoCloseable {
+
+    private final Jedis jedis;
+    private final FieldCodec<T> codec;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * Constructs a {@code RedisHashDataRepository} with the specified Redis server connection string and codec.
+     *
+     * @param connection the Redis server connection string
+     * @param codec      the codec mapping the stored objects onto hash fields
+     */
+    public RedisHashDataRepository(String connection, FieldCodec<T> codec) {
+        this.jedis = new Jedis(connection);
+        this.codec = codec;
+    }
+
+    @Override
+    public T getData(String key) {
+        long start = System.nanoTime();
+        try {
+            Map<String, String> fields = jedis.hgetAll(key);
+            if (fields != null && !fields.isEmpty()) {
+                metrics.recordHit();
+                return codec.decode(fields);
+            }
+            metrics.recordMiss();
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    /**
+     * Stores the object, replacing all fields of a previously stored object atomically.
+     *
+     * @param key   the key to store data
+     * @param value the data to be stored
+     * @return the stored data
+     */
+    @Override
+    public T storeData(String key, T value) {
+        return replace(key, value, 0, 0);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, long expirationSeconds) {
+        return expirationSeconds > 0 ? replace(key, value, expirationSeconds * 1000, 0) : expired(key, value);
+    }
+
+    @Override
+    public T storeDataWithExpiration(String key, T value, Duration expiration) {
+        return expiration.toMillis() > 0 ? replace(key, value, expiration.toMillis(), 0) : expired(key, value);
+    }
+
+    /**
+     * Stores the object until the given point in time, which is interpreted by the clock of the Redis server.
+     * Redis removes the object right away if that point in time has already passed.
+     *
+     * @param key       the key to store data
+     * @param value     the data to be stored
+     * @param expiresAt the point in time at which the data will expire
+     * @return the stored data
+     */
+    @Override
+    public T storeDataWithExpiration(String key, T value, Instant expiresAt) {
+        return expiresAt.toEpochMilli() > 0 ? replace(key, value, 0, expiresAt.toEpochMilli()) : expired(key, value);
+    }
+
+    /**
+     * Replaces the object stored with the key in a single transaction.
+     *
+     * @param expirationMillis the milliseconds after which the object expires, or 0
+     * @param expiresAtMillis  the epoch milliseconds at which the object expires, or 0
+     */
+    private T replace(String key, T value, long expirationMillis, long expiresAtMillis) {
+        long start = System.nanoTime();
+        try {
+            Map<String, String> fields = codec.encode(value);
+            try (Transaction transaction = jedis.multi()) {
+                transaction.del(key);
+                if (!fields.isEmpty()) {
+                    transaction.hset(key, fields);
+                }
+                if (expirationMillis > 0) {
+                    transaction.pexpire(key, expirationMillis);
+                } else if (expiresAtMillis > 0) {
+                    transaction.pexpireAt(key, expiresAtMillis);
+                }
+                transaction.exec();
+            }
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the object stored with the key in place of storing an object which has already expired.
+     */
+    private T expired(String key, T value) {
+        long start = System.nanoTime();
+        try {
+            jedis.del(key);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves a single field of the object stored with the specified key using {@code HGET}.
+     *
+     * @param key   the key of the object
+     * @param field the name of the field
+     * @return the value of the field, or null if the object or field does not exist
+     */
+    public String getField(String key, String field) {
+        long start = System.nanoTime();
+        try {
+            return jedis.hget(key, field);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return null;
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Retrieves several fields of the object stored with the specified key in one {@code HMGET} round trip.
+     *
+     * @param key    the key of the object
+     * @param fields the names of the fields
+     * @return a map of the existing fields to their values, missing fields are absent
+     */
+    public Map<String, String> getFields(String key, String... fields) {
+        Map<String, String> result = new HashMap<>();
+        if (fields.length == 0) return result;
+
+        long start = System.nanoTime();
+        try {
+            List<String> values = jedis.hmget(key, fields);
+            for (int i = 0; i < fields.length; i++) {
+                if (values.get(i) != null) {
+                    result.put(fields[i], values.get(i));
+                }
+            }
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the given fields of the object stored with the specified key in one {@code HSET} round trip,
+     * leaving all other fields untouched. The object is created if it does not exist.
+     *
+     * @param key    the key of the object
+     * @param fields the fields to write
+     */
+    public void setFields(String key, Map<String, String> fields) {
+        if (fields.isEmpty()) return;
+
+        long start = System.nanoTime();
+        try {
+            jedis.hset(key, fields);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Removes the given fields of the object stored with the specified key using {@code HDEL}.
+     *
+     * @param key    the key of the object
+     * @param fields the names of the fields to remove
+     */
+    public void removeFields(String key, String... fields) {
+        if (fields.length == 0) return;
+
+        long start = System.nanoTime();
+        try {
+            jedis.hdel(key, fields);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isStored(String key) {
+        try {
+            return jedis.exists(key);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        try {
+            return jedis.del(key) > 0;
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    @Override
+    public void clearStorage() {
+        try {
+            jedis.flushDB();
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes the connection to the Redis server.
+     */
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.metrics.InstrumentedRepository;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:RedisLongDataRepository
+ * <p>
+ * An implementation of the {@link LongDataRepository} interface that stores the values in a Redis database.
+ * Values are stored as plain decimal strings, the native Redis integer encoding, so increments are performed
+ * atomically by the server through {@code INCRBY} and the values stay readable by other Redis clients.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class RedisLongDataRepository implements LongDataRepository, InstrumentedRepository, AutoCloseable {
+
+    private final Jedis jedis;
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * Constructs a {@code RedisLongDataRepository} with the specified Redis server host and port.
+     *
+     * @param connection the Redis server connection string
+     */
+    public RedisLongDataRepository(String connection) {
+        this.jedis = new Jedis(connection);
+    }
+
+    @Override
+    public long getLong(String key) {
+        Long value = getData(key);
+        return value != null ? value : 0;
+    }
+
+    @Override
+    public Long getData(String key) {
+        long start = System.nanoTime();
+        try {
+            String value = jedis.get(key);
+            if (value != null) {
+                metrics.recordHit();
+                return Long.parseLong(value);
+            }
+            metrics.recordMiss();
+        } catch (JedisException | NumberFormatException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordRead(System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    @Override
+    public long setLong(String key, long value) {
+        long start = System.nanoTime();
+        try {
+            jedis.set(key, Long.toString(value));
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Atomically adds the delta to the value using {@code INCRBY}.
+     *
+     * @param key   the key of the value
+     * @param delta the amount to add, may be negative
+     * @return the value after the increment
+     * @throws JedisException if the increment failed, for example because the server is unreachable or the stored
+     *                        value is not an integer
+     */
+    @Override
+    public long incrementBy(String key, long delta) {
+        long start = System.nanoTime();
+        try {
+            return jedis.incrBy(key, delta);
+        } catch (JedisException e) {
+            // No fallback value can be told apart from a real counter value, so the failure is passed on
+            metrics.recordError();
+            throw e;
+        } finally {
+            metrics.recordWrite(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isStored(String key) {
+        try {
+            return jedis.exists(key);
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeData(String key) {
+        try {
+            return jedis.del(key) > 0;
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+            return false;
+        }
+    }
+
+    @Override
+    public void clearStorage() {
+        try {
+            jedis.flushDB();
+        } catch (JedisException e) {
+            metrics.recordError();
+            e.printStackTrace(); // Handle the exception based on your use case
+        }
+    }
+
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes the connection to the Redis server.
+     */
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.repository;
+
+import com.izanagicraft.storage.io.ChunkedOutputStream;
+import com.izanagicraft.storage.utils.SerializationUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * data-storage; com.izanagicraft.storage.repository:StreamingDataRepository
+ * <p>
+ * A {@link DataRepository} which can store and retrieve values as streams of their serialized form, written and
+ * read in fixed-size chunks. Memory use stays bounded by the chunk size however large the value is.
+ *
+ * @param <T> the type of data to be stored/retrieved
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public interface StreamingDataRepository<T> extends DataRepository<T> {
+
+    /**
+     * Opens a stream to write the serialized value of the specified key.
+     * The value is stored once the stream is closed.
+     *
+     * @param key the key to store the data
+     * @return a stream accepting the serialized value
+     * @throws IOException if the stream cannot be opened
+     */
+    OutputStream openOutputStream(String key) throws IOException;
+
+    /**
+     * Opens a stream to read the serialized value of the specified key.
+     *
+     * @param key the key to retrieve data
+     * @return a stream over the serialized value, or null if not found
+     * @throws IOException if the stream cannot be opened
+     */
+    InputStream openInputStream(String key) throws IOException;
+
+    /**
+     * Serializes the data directly into a stream of the specified key, without building the serialized value in
+     * memory first. If serialization fails partway, a {@link ChunkedOutputStream} is aborted, so the previously
+     * stored value is kept.
+     *
+     * @param key   the key to store the data
+     * @param value the data to be stored
+     * @throws IOException if the data cannot be serialized or stored
+     */
+    default void storeDataStreaming(String key, T value) throws IOException {
+        OutputStream out = openOutputStream(key);
+        try {
+            SerializationUtils.serialize(value, out);
+        } catch (IOException | RuntimeException e) {
+            // Closing the stream would store the part written so far
+            if (out instanceof ChunkedOutputStream chunked) {
+                try {
+                    chunked.abort();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Deserializes the data directly from a stream of the specified key, without reading the serialized value
+     * into memory first.
+     *
+     * @param key the key to retrieve data
+     * @return the data associated with the key, or null if not found
+     * @throws IOException            if the data cannot be read or deserialized
+     * @throws ClassNotFoundException if the class of the data cannot be found
+     */
+    default T getDataStreaming(String key) throws IOException, ClassNotFoundException {
+        InputStream in = openInputStream(key);
+        return in != null ? SerializationUtils.deserialize(in) : null;
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.resilience;
+
+import java.time.Duration;
+
+/**
+ * data-storage; com.izanagicraft.storage.resilience:CircuitBreaker
+ * <p>
+ * Stops calls to a backend which keeps failing. The breaker opens after a number of consecutive failures and
+ * rejects all calls while open, so callers fail fast instead of each waiting for a timeout. Once the open
+ * duration has passed, a single probe call is let through: if it succeeds the breaker closes again, if it fails
+ * the breaker stays open for another open duration.
+ * <p>
+ * A breaker may be shared by several repositories talking to the same server.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls are let through.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A single probe call is in progress, further calls are rejected.
+         */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    /**
+     * Constructs a closed {@code CircuitBreaker}.
+     *
+     * @param failureThreshold the number of consecutive failures which open the breaker
+     * @param openDuration     the time the breaker stays open before a probe call is let through
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold <= 0) throw new IllegalArgumentException("The failure threshold has to be positive");
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Checks whether a call may be made. Callers which were allowed must report the outcome through
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the call may be made, false if it has to fail fast
+     */
+    public boolean tryAcquire() {
+        // Fast path without locking for the common case
+        if (state == State.CLOSED) return true;
+
+        synchronized (this) {
+            if (state == State.CLOSED) return true;
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether calls would currently be rejected, without acquiring a probe call.
+     *
+     * @return true if the breaker is open and its open duration has not passed yet, or a probe is in progress
+     */
+    public boolean isOpen() {
+        if (state == State.CLOSED) return false;
+
+        synchronized (this) {
+            return state == State.HALF_OPEN || (state == State.OPEN && System.nanoTime() - openedAt < openNanos);
+        }
+    }
+
+    /**
+     * Reports a successful call, closing the breaker.
+     */
+    public void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailures == 0) return;
+
+        synchronized (this) {
+            consecutiveFailures = 0;
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Reports a failed call, opening the breaker once the failure threshold is reached or if the call was a probe.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return the current state of the breaker
+     */
+    public State getState() {
+        return state;
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * data-storage; com.izanagicraft.storage.utils:DurationParser
+ * <p>
+ * Parses time strings like {@code "1d12h30m"} into {@link Duration}s. The pattern is compiled once and recently
+ * parsed strings are cached, so repeatedly parsing the same expiration, as is typical on write paths, neither
+ * matches a regex nor allocates.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public final class DurationParser {
+
+    private static final Pattern PATTERN =
+            Pattern.compile("(?:(\\d+)y)?(?:(\\d+)M)?(?:(\\d+)w)?(?:(\\d+)d)?(?:(\\d+)h)?(?:(\\d+)m)?(?:(\\d+)s)?(?:(\\d+)ms)?");
+
+    /**
+     * The maximum number of cached strings, the cache is emptied when it is full.
+     */
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, Duration> CACHE = new ConcurrentHashMap<>();
+
+    private DurationParser() {
+    }
+
+    /**
+     * Parses the given time string, which may include years (y), months (M), weeks (w), days (d), hours (h),
+     * minutes (m), seconds (s) and milliseconds (ms) in this order, e.g. "1d12h30m" for 1 day, 12 hours and
+     * 30 minutes. A year counts as 365 days and a month as 30 days.
+     *
+     * @param timeString the time string to be parsed
+     * @return the {@link Duration} equivalent of the parsed time string
+     * @throws IllegalArgumentException if the time string is empty, has an invalid format or is out of range
+     */
+    public static Duration parse(String timeString) {
+        Duration duration = CACHE.get(timeString);
+        if (duration != null) return duration;
+
+        duration = parseUncached(timeString);
+        if (CACHE.size() >= CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(timeString, duration);
+        return duration;
+    }
+
+    private static Duration parseUncached(String timeString) {
+        Matcher matcher = PATTERN.matcher(timeString);
+        // Every unit is optional, so the pattern also matches the empty string
+        if (timeString.isEmpty() || !matcher.matches()) {
+            throw new IllegalArgumentException("Invalid time string format: " + timeString);
+        }
+
+        try {
+            long years = parseOrDefault(matcher.group(1), 0);
+            long months = parseOrDefault(matcher.group(2), 0);
+            long weeks = parseOrDefault(matcher.group(3), 0);
+            long days = parseOrDefault(matcher.group(4), 0);
+            long hours = parseOrDefault(matcher.group(5), 0);
+            long minutes = parseOrDefault(matcher.group(6), 0);
+            long seconds = parseOrDefault(matcher.group(7), 0);
+            long milliseconds = parseOrDefault(matcher.group(8), 0);
+
+            long totalDays = Math.addExact(Math.addExact(Math.multiplyExact(years, 365), Math.multiplyExact(months, 30)),
+                    Math.addExact(Math.multiplyExact(weeks, 7), days));
+            return Duration.ofDays(totalDays)
+                    .plusHours(hours)
+                    .plusMinutes(minutes)
+                    .plusSeconds(seconds)
+                    .plusMillis(milliseconds);
+        } catch (NumberFormatException | ArithmeticException e) {
+            // A number does not fit into a long or the total overflows the duration
+            throw new IllegalArgumentException("Time string out of range: " + timeString, e);
+        }
+    }
+
+    private static long parseOrDefault(String value, long defaultValue) {
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+}
@@ -73,6 +73,20 @@ public class SerializationUtils {
         }
     }
 
+    /**
+     * Serializes an object to a stream.
+     *
+     * @param obj the object to serialize
+     * @param out the stream to write the serialized object to, it is closed once the object was written completely
+     *            and left open if serialization fails, so the caller can discard what was written
+     * @throws IOException if an I/O error occurs during serialization
+     */
+    public static <T> void serialize(T obj, OutputStream out) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(obj);
+        oos.close();
+    }
+
     /**
      * Deserializes an object from a byte array.
      *
@@ -88,4 +102,19 @@ public class SerializationUtils {
         }
     }
 
+    /**
+     * Deserializes an object from a stream.
+     *
+     * @param in the stream containing the serialized object, it is closed afterwards
+     * @return the deserialized object
+     * @throws IOException            if an I/O error occurs during deserialization
+     * @throws ClassNotFoundException if the class of the deserialized object cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(InputStream in) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(in)) {
+            return (T) ois.readObject();
+        }
+    }
+
 }
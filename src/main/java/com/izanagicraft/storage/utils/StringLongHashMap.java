@@ -0,0 +1,228 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.storage.utils;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * data-storage; com.izanagicraft.storage.utils:StringLongHashMap
+ * <p>
+ * An open-addressing hash map from {@link String} keys to primitive {@code long} values.
+ * Keys and values are kept in two parallel arrays probed linearly, so neither lookups nor updates of existing
+ * keys allocate and values are never boxed.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+public class StringLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private String[] keys;
+    private long[] values;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Constructs an empty {@code StringLongHashMap}.
+     *
+     * @param expectedSize the number of keys the map should hold without resizing
+     */
+    public StringLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new String[capacity];
+        this.values = new long[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int indexOf(String key) {
+        int mask = keys.length - 1;
+        int index = mix(key.hashCode()) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param key the key to look up
+     * @return true if the map contains the key
+     */
+    public boolean containsKey(String key) {
+        return keys[indexOf(key)] != null;
+    }
+
+    /**
+     * @param key          the key to look up
+     * @param defaultValue the value to return if the key is absent
+     * @return the value associated with the key, or the default value
+     */
+    public long get(String key, long defaultValue) {
+        int index = indexOf(key);
+        return keys[index] != null ? values[index] : defaultValue;
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(String key, long value) {
+        int index = indexOf(key);
+        values[index] = value;
+        if (keys[index] == null) {
+            keys[index] = key;
+            grow();
+        }
+    }
+
+    /**
+     * Adds the delta to the value associated with the key, absent keys start at 0.
+     *
+     * @param key   the key
+     * @param delta the value to add
+     * @return the new value
+     */
+    public long addAndGet(String key, long delta) {
+        int index = indexOf(key);
+        long value = values[index] += delta;
+        if (keys[index] == null) {
+            keys[index] = key;
+            grow();
+        }
+        return value;
+    }
+
+    /**
+     * Removes the key from the map.
+     *
+     * @param key the key to remove
+     * @return true if the key was present
+     */
+    public boolean remove(String key) {
+        int mask = keys.length - 1;
+        int index = indexOf(key);
+        if (keys[index] == null) return false;
+
+        keys[index] = null;
+        values[index] = 0;
+        size--;
+
+        // Shift following entries of the probe sequence back, so lookups never stop at the hole
+        int next = (index + 1) & mask;
+        while (keys[next] != null) {
+            int home = mix(keys[next].hashCode()) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                keys[next] = null;
+                values[next] = 0;
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of keys in the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all keys from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    /**
+     * Passes every key of the map to the given action.
+     *
+     * @param action the action to perform for each key
+     */
+    public void forEachKey(Consumer<String> action) {
+        for (String key : keys) {
+            if (key != null) {
+                action.accept(key);
+            }
+        }
+    }
+
+    private void grow() {
+        if (++size <= resizeThreshold) return;
+
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+}
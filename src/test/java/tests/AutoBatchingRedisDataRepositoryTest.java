@@ -0,0 +1,230 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.AutoBatchingRedisDataRepository;
+import com.izanagicraft.storage.repository.RedisDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:AutoBatchingRedisDataRepositoryTest
+ * <p>
+ * Runs the {@link AutoBatchingRedisDataRepository} against a {@link FakeRedisServer}, which is paused to make
+ * calls pile up into shared round trips.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class AutoBatchingRedisDataRepositoryTest {
+
+    private FakeRedisServer server;
+    private AutoBatchingRedisDataRepository<String> repository;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeRedisServer();
+        repository = new AutoBatchingRedisDataRepository<>(server.getUri());
+        executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.resume();
+        executor.shutdownNow();
+        repository.close();
+        server.close();
+    }
+
+    @Test
+    void concurrentCalls_ShouldEachReceiveTheirOwnResult() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    String key = "key:" + thread + ":" + i;
+                    repository.storeData(key, key);
+                    // Read right after the write, in a round trip shared with the other threads
+                    assertEquals(key, repository.getData(key), "A read should see the preceding write of its thread");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertEquals("key:7:199", repository.getData("key:7:199"), "Every value should be stored under its own key");
+        assertEquals(Set.of("key:3:0", "key:12:5"), repository.getAllData(List.of("key:3:0", "key:12:5", "missing")).keySet(),
+                "getAllData should return the found keys only");
+        long errors = repository.getMetrics().snapshot().getErrors();
+        assertEquals(0, errors, "No call should fail");
+    }
+
+    @Test
+    void writes_ShouldBeSeenByTheFollowingCallsOfTheSameThread() {
+        for (int i = 0; i < 500; i++) {
+            repository.storeData("key", "value" + i);
+            assertEquals("value" + i, repository.getData("key"), "A read should see the preceding write");
+        }
+        assertTrue(repository.removeData("key"), "The stored key should be removed");
+        assertFalse(repository.isStored("key"), "A check should see the preceding removal");
+    }
+
+    @Test
+    void errorReply_ShouldOnlyFailItsOwnCall() throws Exception {
+        repository.setMaxWindow(Duration.ofMillis(20));
+        server.pause();
+        // Holds the flusher in its round trip, so the following calls pile up into the next one
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> repository.getData("first"), executor);
+        Thread.sleep(100);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String key = "key" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return repository.storeData(key, "value");
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            // Redis rejects a non-positive expiration with an error reply
+            return repository.storeDataWithExpiration("invalid", "value", -1);
+        }));
+        start.countDown();
+        Thread.sleep(100);
+        server.resume();
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertNull(first.get(10, TimeUnit.SECONDS), "The first key does not exist");
+        for (int i = 0; i < 8; i++) {
+            assertTrue(server.contains("key" + i), "The other calls of the round trip should succeed");
+        }
+        assertFalse(server.contains("invalid"), "The rejected write should not be stored");
+        long errors = repository.getMetrics().snapshot().getErrors();
+        assertEquals(1, errors, "Only the rejected call should fail");
+    }
+
+    @Test
+    void close_ShouldFailPendingCalls() throws Exception {
+        server.pause();
+        CompletableFuture<String> sent = CompletableFuture.supplyAsync(() -> repository.getData("sent"), executor);
+        Thread.sleep(100);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> repository.getData("queued"), executor);
+        Thread.sleep(100);
+
+        // Returns once the round trip in flight timed out
+        repository.close();
+
+        assertNull(sent.get(10, TimeUnit.SECONDS), "The call in flight should fail");
+        assertNull(queued.get(10, TimeUnit.SECONDS), "The queued call should fail");
+        assertNull(repository.getData("later"), "Calls after closing should fail");
+        long errors = repository.getMetrics().snapshot().getErrors();
+        assertEquals(3, errors, "Every failed call should be recorded");
+    }
+
+    @Test
+    void connectionLoss_ShouldOnlyFailTheCallsInFlight() throws Exception {
+        repository.storeData("key", "value");
+
+        server.stop();
+        assertNull(repository.getData("key"), "Calls should fail while the connection is down");
+
+        server.start();
+        assertEquals("value", repository.getData("key"), "The connection should be reopened once the server is back");
+        repository.storeData("other", "value");
+        assertTrue(server.contains("other"), "Writes should reach the server again");
+    }
+
+    @Test
+    void timeout_ShouldNotLeaveTheLateReplyForTheNextCall() {
+        repository.storeData("key", "value");
+
+        server.pause();
+        assertNull(repository.getData("missing"), "The call should time out while the server stalls");
+        server.resume();
+
+        assertEquals("value", repository.getData("key"), "The next call should not receive the late reply of the timed out one");
+    }
+
+    @Test
+    void storeData_ShouldDeleteAStreamedValue() throws Exception {
+        try (RedisDataRepository<String> streaming = new RedisDataRepository<>(server.getUri())) {
+            streaming.storeDataStreaming("key", "streamed");
+            streaming.storeDataStreaming("expiring", "streamed");
+
+            repository.storeData("key", "plain");
+            repository.storeDataWithExpiration("expiring", "plain", Duration.ofMillis(100));
+            Thread.sleep(200);
+
+            assertEquals(Set.of("key"), server.keys().stream().filter(server::contains).collect(Collectors.toSet()),
+                    "Only the plain value should be left");
+            assertNull(streaming.openInputStream("expiring"), "The streamed value should not reappear once the plain value expired");
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.migration.DataMigration;
+import com.izanagicraft.storage.migration.MigrationResult;
+import com.izanagicraft.storage.repository.FileDataRepository;
+import com.izanagicraft.storage.repository.InMemoryDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:DataMigrationTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class DataMigrationTest {
+
+    private Path directory;
+    private InMemoryDataRepository<String> source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("migration");
+        source = new InMemoryDataRepository<>();
+        for (int i = 0; i < 500; i++) {
+            source.storeData("key:" + i, "value" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        source.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    void run_ShouldCopyAllKeysInBatches() throws Exception {
+        FileDataRepository<String> target = new FileDataRepository<>(directory.resolve("target").toFile());
+        AtomicInteger batches = new AtomicInteger();
+        DataMigration<String> migration = new DataMigration<>(source, new InMemoryDataRepository<>() {
+            @Override
+            public void storeAllData(Map<String, String> data) {
+                batches.incrementAndGet();
+                target.storeAllData(data);
+            }
+
+            @Override
+            public Map<String, String> getAllData(Collection<String> keys) {
+                return target.getAllData(keys);
+            }
+        });
+        migration.setBatchSize(64);
+        migration.setVerifyChecksums(true);
+
+        MigrationResult result = migration.run();
+
+        long copied = result.getKeysCopied();
+        assertEquals(500, copied, "All keys should be copied");
+        assertEquals(0, result.getChecksumMismatches(), "All copies should match");
+        assertEquals(8, batches.get(), "The keys should be written in batches of the configured size");
+        for (int i = 0; i < 500; i++) {
+            assertEquals("value" + i, target.getData("key:" + i), "Every value should be copied");
+        }
+    }
+
+    @Test
+    void run_ShouldResumeAfterTheCheckpointedKey() throws Exception {
+        Path checkpoint = directory.resolve("migration.checkpoint");
+        InMemoryDataRepository<String> target = new InMemoryDataRepository<>();
+        AtomicInteger writes = new AtomicInteger();
+        DataMigration<String> failing = new DataMigration<>(source, new InMemoryDataRepository<>() {
+            @Override
+            public void storeAllData(Map<String, String> data) {
+                if (writes.incrementAndGet() > 3) throw new IllegalStateException("Target unavailable");
+                target.storeAllData(data);
+            }
+        });
+        failing.setBatchSize(50);
+        failing.setConcurrency(1);
+        failing.setCheckpointFile(checkpoint);
+
+        assertThrows(IOException.class, failing::run, "The failed write should fail the migration");
+        assertTrue(Files.exists(checkpoint), "The progress should be recorded");
+
+        // New keys change the order the source enumerates its keys in
+        Map<String, String> added = new HashMap<>();
+        for (int i = 500; i < 1000; i++) {
+            added.put("key:" + i, "value" + i);
+        }
+        source.storeAllData(added);
+
+        Map<String, String> copied = new HashMap<>();
+        DataMigration<String> resumed = new DataMigration<>(source, new InMemoryDataRepository<>() {
+            @Override
+            public void storeAllData(Map<String, String> data) {
+                copied.putAll(data);
+                target.storeAllData(data);
+            }
+        });
+        resumed.setBatchSize(50);
+        resumed.setConcurrency(1);
+        resumed.setCheckpointFile(checkpoint);
+        MigrationResult result = resumed.run();
+
+        long skipped = result.getKeysSkipped();
+        assertEquals(150, skipped, "The keys copied before the failure should be skipped");
+        assertEquals(850, copied.size(), "Only the remaining keys should be copied");
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value" + i, target.getData("key:" + i), "Every key should be copied once the migration resumed");
+        }
+        assertFalse(Files.exists(checkpoint), "The checkpoint should be deleted once the migration completes");
+    }
+
+    @Test
+    void run_ShouldLimitTheKeysPerSecond() throws Exception {
+        DataMigration<String> migration = new DataMigration<>(source, new InMemoryDataRepository<>());
+        migration.setBatchSize(100);
+        migration.setMaxKeysPerSecond(1000);
+
+        MigrationResult result = migration.run();
+
+        // The first batch starts right away, each of the other four waits 100 ms
+        assertTrue(result.getDuration().toMillis() >= 350, "The migration should be throttled, took " + result.getDuration());
+        long copied = result.getKeysCopied();
+        assertEquals(500, copied, "All keys should be copied");
+    }
+
+    @Test
+    void run_ShouldCountChecksumMismatches() throws Exception {
+        DataMigration<String> migration = new DataMigration<>(source, new InMemoryDataRepository<>() {
+            @Override
+            public void storeAllData(Map<String, String> data) {
+                Map<String, String> corrupted = new HashMap<>(data);
+                corrupted.computeIfPresent("key:7", (key, value) -> value + "!");
+                super.storeAllData(corrupted);
+            }
+        });
+        migration.setVerifyChecksums(true);
+
+        MigrationResult result = migration.run();
+
+        long mismatches = result.getChecksumMismatches();
+        assertEquals(1, mismatches, "The corrupted copy should be detected");
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.utils.DurationParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:DurationParserTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class DurationParserTest {
+
+    @Test
+    void parse_ShouldAddUpAllUnits() {
+        assertEquals(Duration.ofDays(1).plusHours(12).plusMinutes(30), DurationParser.parse("1d12h30m"));
+        assertEquals(Duration.ofDays(365 + 2 * 30 + 3 * 7 + 4).plusHours(5).plusMinutes(6).plusSeconds(7).plusMillis(8),
+                DurationParser.parse("1y2M3w4d5h6m7s8ms"));
+        assertEquals(Duration.ofMillis(1500), DurationParser.parse("1s500ms"));
+        assertEquals(Duration.ofMinutes(2), DurationParser.parse("2m"), "A lowercase m should mean minutes");
+        assertEquals(Duration.ofDays(60), DurationParser.parse("2M"), "An uppercase M should mean months");
+        assertEquals(Duration.ZERO, DurationParser.parse("0s"));
+    }
+
+    @Test
+    void parse_ShouldRejectInvalidStrings() {
+        for (String invalid : new String[]{"", "1", "1x", "h", "1h1d", "1.5h", "-1s", " 1s", "1s ", "1D"}) {
+            assertThrows(IllegalArgumentException.class, () -> DurationParser.parse(invalid), "'" + invalid + "' should be rejected");
+        }
+    }
+
+    @Test
+    void parse_ShouldRejectStringsOutOfRange() {
+        for (String invalid : new String[]{"99999999999999999999s", "9223372036854775807y", "9223372036854775807d", "9223372036854775807h"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> DurationParser.parse(invalid));
+            assertTrue(e.getMessage().contains(invalid), "The message should name the string: " + e.getMessage());
+        }
+    }
+
+    @Test
+    void parse_ShouldReturnCachedDurations() {
+        Duration first = DurationParser.parse("3h7m");
+
+        assertSame(first, DurationParser.parse("3h7m"), "Parsing the same string again should be served from the cache");
+        assertThrows(IllegalArgumentException.class, () -> DurationParser.parse("3q"));
+        assertThrows(IllegalArgumentException.class, () -> DurationParser.parse("3q"), "Invalid strings should not be cached");
+    }
+
+    @Test
+    void parse_ShouldStayCorrectWhenTheCacheOverflows() {
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Duration.ofSeconds(i), DurationParser.parse(i + "s"));
+        }
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Duration.ofMillis(i), DurationParser.parse(i + "ms"));
+        }
+    }
+
+}
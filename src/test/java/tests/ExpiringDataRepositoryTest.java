@@ -0,0 +1,171 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.ExpiringDataRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:ExpiringDataRepositoryTest
+ * <p>
+ * Checks the default {@link Duration}, {@link Instant} and string overloads, which delegate to the seconds based
+ * method every implementation provides.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class ExpiringDataRepositoryTest {
+
+    private final SecondsRepository repository = new SecondsRepository();
+
+    @Test
+    void durationDefault_ShouldRoundUpToWholeSeconds() {
+        repository.storeDataWithExpiration("key", "value", Duration.ofSeconds(5));
+        assertEquals(5, repository.lastExpirationSeconds);
+
+        repository.storeDataWithExpiration("key", "value", Duration.ofMillis(5001));
+        assertEquals(6, repository.lastExpirationSeconds, "Partial seconds should be rounded up");
+
+        repository.storeDataWithExpiration("key", "value", Duration.ofNanos(1));
+        assertEquals(1, repository.lastExpirationSeconds, "Expirations below a second should not be rounded down to 0");
+        assertEquals("value", repository.getData("key"));
+    }
+
+    @Test
+    void durationDefault_ShouldRemoveTheDataForElapsedExpirations() {
+        for (Duration elapsed : new Duration[]{Duration.ZERO, Duration.ofMillis(-500), Duration.ofSeconds(-5)}) {
+            repository.storeData("key", "old");
+            repository.lastExpirationSeconds = Long.MIN_VALUE;
+
+            assertEquals("new", repository.storeDataWithExpiration("key", "new", elapsed));
+            assertFalse(repository.isStored("key"), "Data expiring after " + elapsed + " should not be stored");
+            assertEquals(Long.MIN_VALUE, repository.lastExpirationSeconds, "No non-positive expiration should be passed on");
+        }
+    }
+
+    @Test
+    void instantDefault_ShouldExpireRelativeToNow() {
+        repository.storeDataWithExpiration("key", "value", Instant.now().plusSeconds(60));
+
+        assertEquals(60, repository.lastExpirationSeconds, "The time left until the instant should be rounded up");
+        assertEquals("value", repository.getData("key"));
+
+        repository.storeDataWithExpiration("key", "value", Instant.now().plusMillis(10));
+        assertEquals(1, repository.lastExpirationSeconds, "A point in time within the next second should be rounded up");
+    }
+
+    @Test
+    void instantDefault_ShouldRemoveTheDataForPastInstants() {
+        repository.storeData("key", "old");
+
+        repository.storeDataWithExpiration("key", "new", Instant.now().minusSeconds(60));
+        assertFalse(repository.isStored("key"), "Data expiring in the past should not be stored");
+
+        repository.storeData("key", "old");
+        repository.storeDataWithExpiration("key", "new", Instant.EPOCH);
+        assertFalse(repository.isStored("key"));
+    }
+
+    @Test
+    void stringDefault_ShouldKeepMillisecondPrecision() {
+        repository.storeDataWithExpiration("key", "value", "1m30s500ms");
+        assertEquals(91, repository.lastExpirationSeconds);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.storeDataWithExpiration("other", "value", "soon"));
+        assertFalse(repository.isStored("other"), "Nothing should be stored for an invalid time string");
+    }
+
+    /**
+     * Only implements the seconds based method and records the expirations passed to it.
+     */
+    private static final class SecondsRepository implements ExpiringDataRepository<String> {
+
+        private final Map<String, String> data = new HashMap<>();
+        private long lastExpirationSeconds;
+
+        @Override
+        public String storeDataWithExpiration(String key, String value, long expirationSeconds) {
+            lastExpirationSeconds = expirationSeconds;
+            return storeData(key, value);
+        }
+
+        @Override
+        public String getData(String key) {
+            return data.get(key);
+        }
+
+        @Override
+        public String storeData(String key, String value) {
+            data.put(key, value);
+            return value;
+        }
+
+        @Override
+        public boolean isStored(String key) {
+            return data.containsKey(key);
+        }
+
+        @Override
+        public boolean removeData(String key) {
+            return data.remove(key) != null;
+        }
+
+        @Override
+        public void clearStorage() {
+            data.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,594 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * data-storage; tests:FakeRedisServer
+ * <p>
+ * A minimal Redis server speaking RESP2 on a local port, supporting the commands used by the Redis repositories.
+ * It can be stopped and started again on the same port to simulate outages, the stored data survives restarts.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+final class FakeRedisServer implements AutoCloseable {
+
+    private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, byte[]>> hashes = new ConcurrentHashMap<>();
+    private final Map<String, Long> expirations = new ConcurrentHashMap<>();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final Object commandLock = new Object();
+    private volatile CountDownLatch resumed = new CountDownLatch(0);
+    private final int port;
+
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Starts the server on a free port.
+     *
+     * @throws IOException if the server socket cannot be opened
+     */
+    FakeRedisServer() throws IOException {
+        ServerSocket socket = openFreePort();
+        this.port = socket.getLocalPort();
+        accept(socket);
+    }
+
+    /**
+     * @return the connection URI of the server
+     */
+    String getUri() {
+        return "redis://localhost:" + port;
+    }
+
+    /**
+     * Checks whether the server holds the given key.
+     *
+     * @param key the key
+     * @return true if the key exists
+     */
+    boolean contains(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Checks whether the given key exists and expires.
+     *
+     * @param key the key
+     * @return true if the key exists with an expiration time
+     */
+    boolean expires(String key) {
+        return exists(key) && expirations.containsKey(key);
+    }
+
+    /**
+     * @return the keys the server holds, including expired keys which were not accessed since
+     */
+    Set<String> keys() {
+        Set<String> keys = new HashSet<>(data.keySet());
+        keys.addAll(hashes.keySet());
+        return keys;
+    }
+
+    /**
+     * Returns how often a command was executed since the server was constructed.
+     *
+     * @param name the name of the command, like {@code "GET"}
+     * @return the number of executions
+     */
+    long getCommandCount(String name) {
+        LongAdder count = commandCounts.get(name);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Stops answering commands until {@link #resume()}, like a server stalled by a slow command.
+     */
+    void pause() {
+        resumed = new CountDownLatch(1);
+    }
+
+    /**
+     * Answers the commands received while paused and all further ones.
+     */
+    void resume() {
+        resumed.countDown();
+    }
+
+    /**
+     * Starts the server again after {@link #stop()}, on the same port.
+     *
+     * @throws IOException if the server socket cannot be opened
+     */
+    synchronized void start() throws IOException {
+        if (serverSocket != null) return;
+        accept(open(port));
+    }
+
+    /**
+     * Stops accepting connections and drops all connected clients, like a crashed server.
+     */
+    synchronized void stop() {
+        if (serverSocket == null) return;
+
+        closeQuietly(serverSocket);
+        serverSocket = null;
+        for (Socket client : clients) {
+            closeQuietly(client);
+        }
+        clients.clear();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Opens a port below the ephemeral range. While the server is stopped, a client connecting to an ephemeral port
+     * may be assigned that very port and connect to itself, so the server could not be started again.
+     */
+    private static ServerSocket openFreePort() throws IOException {
+        IOException failure = null;
+        for (int attempt = 0; attempt < 100; attempt++) {
+            try {
+                return open(ThreadLocalRandom.current().nextInt(20_000, 32_000));
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    private static ServerSocket open(int port) throws IOException {
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        return socket;
+    }
+
+    private void accept(ServerSocket socket) {
+        this.serverSocket = socket;
+        Thread acceptor = new Thread(() -> {
+            while (!socket.isClosed()) {
+                try {
+                    Socket client = socket.accept();
+                    synchronized (this) {
+                        // A connection accepted while stopping must fail like against a crashed server
+                        if (serverSocket != socket) {
+                            closeQuietly(client);
+                            return;
+                        }
+                        clients.add(client);
+                    }
+                    Thread handler = new Thread(() -> serve(client), "fake-redis-client");
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return; // Stopped
+                }
+            }
+        }, "fake-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            List<List<byte[]>> transaction = null;
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) return;
+                resumed.await();
+
+                // Commands between MULTI and EXEC are queued and executed together, holding off other clients
+                String name = string(command.get(0)).toUpperCase();
+                if (name.equals("MULTI")) {
+                    transaction = new ArrayList<>();
+                    simple(out, "OK");
+                } else if (name.equals("EXEC") && transaction != null) {
+                    synchronized (commandLock) {
+                        out.write(("*" + transaction.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                        for (List<byte[]> queued : transaction) {
+                            execute(queued, out);
+                        }
+                    }
+                    transaction = null;
+                } else if (name.equals("DISCARD") && transaction != null) {
+                    transaction = null;
+                    simple(out, "OK");
+                } else if (transaction != null) {
+                    transaction.add(command);
+                    simple(out, "QUEUED");
+                } else {
+                    synchronized (commandLock) {
+                        execute(command, out);
+                    }
+                }
+                // Flush once all pipelined commands which already arrived are answered
+                if (in.available() == 0) out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // Client disconnected or server stopped
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private static List<byte[]> readCommand(DataInputStream in) throws IOException {
+        int marker = in.read();
+        if (marker == -1) return null;
+        if (marker != '*') throw new IOException("Expected an array, got " + (char) marker);
+
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') throw new IOException("Expected a bulk string");
+            byte[] argument = new byte[Integer.parseInt(readLine(in))];
+            in.readFully(argument);
+            readLine(in);
+            arguments.add(argument);
+        }
+        return arguments;
+    }
+
+    private static String readLine(DataInputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) throw new EOFException();
+            line.append((char) c);
+        }
+        in.read(); // \n
+        return line.toString();
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = string(command.get(0)).toUpperCase();
+        commandCounts.computeIfAbsent(name, n -> new LongAdder()).increment();
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "CLIENT" -> simple(out, "OK");
+            case "GET" -> bulk(out, get(string(command.get(1))));
+            case "GETDEL" -> {
+                String key = string(command.get(1));
+                byte[] value = get(key);
+                remove(key);
+                bulk(out, value);
+            }
+            case "SET" -> set(command, out);
+            case "SETEX" -> {
+                if (Long.parseLong(string(command.get(2))) <= 0) {
+                    error(out, "ERR invalid expire time in 'setex' command");
+                    return;
+                }
+                put(string(command.get(1)), command.get(3), System.currentTimeMillis() + Long.parseLong(string(command.get(2))) * 1000);
+                simple(out, "OK");
+            }
+            case "PSETEX" -> {
+                if (Long.parseLong(string(command.get(2))) <= 0) {
+                    error(out, "ERR invalid expire time in 'psetex' command");
+                    return;
+                }
+                put(string(command.get(1)), command.get(3), System.currentTimeMillis() + Long.parseLong(string(command.get(2))));
+                simple(out, "OK");
+            }
+            case "INCRBY" -> {
+                String key = string(command.get(1));
+                byte[] current = get(key);
+                long value;
+                try {
+                    value = Math.addExact(current == null ? 0 : Long.parseLong(string(current)), Long.parseLong(string(command.get(2))));
+                } catch (NumberFormatException | ArithmeticException e) {
+                    error(out, "ERR value is not an integer or out of range");
+                    return;
+                }
+                // Like Redis, INCRBY keeps the expiration time of the key
+                data.put(key, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+                integer(out, value);
+            }
+            case "EXISTS" -> {
+                long count = command.subList(1, command.size()).stream().filter(key -> exists(string(key))).count();
+                integer(out, count);
+            }
+            case "DEL" -> {
+                long count = command.subList(1, command.size()).stream().filter(key -> remove(string(key))).count();
+                integer(out, count);
+            }
+            case "MGET" -> {
+                out.write(("*" + (command.size() - 1) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (byte[] key : command.subList(1, command.size())) {
+                    bulk(out, get(string(key)));
+                }
+            }
+            case "PTTL" -> {
+                String key = string(command.get(1));
+                Long expiresAt = get(key) == null ? null : expirations.get(key);
+                integer(out, get(key) == null ? -2 : expiresAt == null ? -1 : Math.max(expiresAt - System.currentTimeMillis(), 0));
+            }
+            case "PERSIST" -> {
+                String key = string(command.get(1));
+                integer(out, exists(key) && expirations.remove(key) != null ? 1 : 0);
+            }
+            case "PEXPIRE" -> expire(command, out, System.currentTimeMillis() + Long.parseLong(string(command.get(2))));
+            case "PEXPIREAT" -> expire(command, out, Long.parseLong(string(command.get(2))));
+            case "HSET" -> {
+                Map<String, byte[]> fields = hash(string(command.get(1)));
+                if (fields == null) {
+                    fields = new LinkedHashMap<>();
+                    hashes.put(string(command.get(1)), fields);
+                }
+                long added = 0;
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if (fields.put(string(command.get(i)), command.get(i + 1)) == null) added++;
+                }
+                integer(out, added);
+            }
+            case "HGET" -> {
+                Map<String, byte[]> fields = hash(string(command.get(1)));
+                bulk(out, fields == null ? null : fields.get(string(command.get(2))));
+            }
+            case "HMGET" -> {
+                Map<String, byte[]> fields = hash(string(command.get(1)));
+                out.write(("*" + (command.size() - 2) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (byte[] field : command.subList(2, command.size())) {
+                    bulk(out, fields == null ? null : fields.get(string(field)));
+                }
+            }
+            case "HGETALL" -> {
+                Map<String, byte[]> fields = hash(string(command.get(1)));
+                if (fields == null) fields = Map.of();
+                out.write(("*" + fields.size() * 2 + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (Map.Entry<String, byte[]> field : fields.entrySet()) {
+                    bulk(out, field.getKey().getBytes(StandardCharsets.ISO_8859_1));
+                    bulk(out, field.getValue());
+                }
+            }
+            case "HDEL" -> {
+                String key = string(command.get(1));
+                Map<String, byte[]> fields = hash(key);
+                long removed = 0;
+                if (fields != null) {
+                    for (byte[] field : command.subList(2, command.size())) {
+                        if (fields.remove(string(field)) != null) removed++;
+                    }
+                    // Like Redis, a hash without fields does not exist
+                    if (fields.isEmpty()) remove(key);
+                }
+                integer(out, removed);
+            }
+            case "SCAN" -> scan(command, out);
+            case "FLUSHDB" -> {
+                data.clear();
+                hashes.clear();
+                expirations.clear();
+                simple(out, "OK");
+            }
+            default -> error(out, "ERR unknown command '" + name + "'");
+        }
+    }
+
+    private void set(List<byte[]> command, OutputStream out) throws IOException {
+        String key = string(command.get(1));
+        long expiresAt = 0;
+        boolean returnPrevious = false;
+        for (int i = 3; i < command.size(); i++) {
+            String option = string(command.get(i)).toUpperCase();
+            switch (option) {
+                case "EX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(string(command.get(++i))) * 1000;
+                case "PX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(string(command.get(++i)));
+                case "EXAT" -> expiresAt = Long.parseLong(string(command.get(++i))) * 1000;
+                case "PXAT" -> expiresAt = Long.parseLong(string(command.get(++i)));
+                case "GET" -> returnPrevious = true;
+                default -> {
+                    // NX, XX and KEEPTTL are not used by the repositories
+                }
+            }
+        }
+
+        byte[] previous = get(key);
+        put(key, command.get(2), expiresAt);
+        if (returnPrevious) {
+            bulk(out, previous);
+        } else {
+            simple(out, "OK");
+        }
+    }
+
+    /**
+     * Answers a {@code SCAN} with all matching keys in a single page.
+     */
+    private void scan(List<byte[]> command, OutputStream out) throws IOException {
+        Pattern pattern = Pattern.compile(".*", Pattern.DOTALL);
+        for (int i = 2; i < command.size(); i++) {
+            if (string(command.get(i)).equalsIgnoreCase("MATCH")) {
+                pattern = glob(string(command.get(++i)));
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String key : data.keySet()) {
+            if (get(key) != null && pattern.matcher(key).matches()) keys.add(key);
+        }
+        out.write("*2\r\n".getBytes(StandardCharsets.US_ASCII));
+        bulk(out, "0".getBytes(StandardCharsets.US_ASCII));
+        out.write(("*" + keys.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        for (String key : keys) {
+            bulk(out, key.getBytes(StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /**
+     * Translates a Redis glob pattern using {@code *}, {@code ?} and backslash escapes into a regular expression.
+     */
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                if (c == '\\' && i + 1 < glob.length()) c = glob.charAt(++i);
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    /**
+     * Sets the expiration time of a key, a time which has already passed removes the key like in Redis.
+     */
+    private void expire(List<byte[]> command, OutputStream out, long expiresAt) throws IOException {
+        String key = string(command.get(1));
+        if (!exists(key)) {
+            integer(out, 0);
+            return;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            remove(key);
+        } else {
+            expirations.put(key, expiresAt);
+        }
+        integer(out, 1);
+    }
+
+    private void removeIfExpired(String key) {
+        Long expiresAt = expirations.get(key);
+        if (expiresAt != null && expiresAt <= System.currentTimeMillis()) {
+            remove(key);
+        }
+    }
+
+    private boolean remove(String key) {
+        expirations.remove(key);
+        boolean removedString = data.remove(key) != null;
+        return hashes.remove(key) != null || removedString;
+    }
+
+    private boolean exists(String key) {
+        return get(key) != null || hash(key) != null;
+    }
+
+    private byte[] get(String key) {
+        removeIfExpired(key);
+        return data.get(key);
+    }
+
+    private Map<String, byte[]> hash(String key) {
+        removeIfExpired(key);
+        return hashes.get(key);
+    }
+
+    private void put(String key, byte[] value, long expiresAt) {
+        hashes.remove(key);
+        data.put(key, value);
+        if (expiresAt > 0) {
+            expirations.put(key, expiresAt);
+        } else {
+            expirations.remove(key);
+        }
+    }
+
+    private static String string(byte[] bytes) {
+        // Latin-1 maps every byte to one char, so binary keys survive the round trip
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(("+" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write(("-" + message + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing to do, the resource is gone either way
+        }
+    }
+
+}
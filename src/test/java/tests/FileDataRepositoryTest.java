@@ -0,0 +1,329 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.FileDataRepository;
+import com.izanagicraft.storage.utils.SerializationUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:FileDataRepositoryTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class FileDataRepositoryTest {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int BLOCK_COUNT = 4096; // 256 MiB
+    private static final long MAX_ALLOCATED_BYTES = 16 * 1024 * 1024;
+
+    private static final int STRESS_KEYS = 8;
+    private static final int STRESS_OPERATIONS = 2000;
+
+    private Path directory;
+    private FileDataRepository<String> repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Store the data in a fresh temporary directory for each test
+        directory = Files.createTempDirectory("file-data-repository");
+        repository = new FileDataRepository<>(directory.toFile());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void getDataStreaming_ShouldReturnValueStoredWithStoreData() throws Exception {
+        repository.storeData("testKey", "testValue");
+
+        assertEquals("testValue", repository.getDataStreaming("testKey"), "getDataStreaming should read values stored with storeData");
+    }
+
+    @Test
+    void getData_ShouldReturnValueStoredWithStoreDataStreaming() throws Exception {
+        repository.storeDataStreaming("testKey", "testValue");
+
+        assertEquals("testValue", repository.getData("testKey"), "getData should read values stored with storeDataStreaming");
+    }
+
+    @Test
+    void storeDataStreaming_ShouldKeepPreviousValueIfSerializationFails() throws IOException {
+        FileDataRepository<Object> objects = new FileDataRepository<>(directory.toFile());
+        objects.storeData("testKey", "previous");
+
+        // Several chunks are written before the serializer reaches the object it cannot serialize
+        List<Object> value = new ArrayList<>(List.of(new byte[300 * 1024], new Object()));
+        assertThrows(NotSerializableException.class, () -> objects.storeDataStreaming("testKey", value),
+                "storeDataStreaming should report the serialization failure");
+
+        assertEquals("previous", objects.getData("testKey"), "the previous value should survive a failed write");
+        try (Stream<Path> paths = Files.walk(directory)) {
+            assertEquals(0, paths.filter(path -> path.toString().endsWith(".tmp")).count(), "the partial value should be discarded");
+        }
+    }
+
+    @Test
+    void expiredValue_ShouldBeTreatedAsMissing() throws Exception {
+        repository.storeDataWithExpiration("expired", "testValue", Instant.now().minusSeconds(1));
+        repository.storeDataWithExpiration("valid", "testValue", Duration.ofHours(1));
+
+        assertNull(repository.getData("expired"), "getData should not return expired values");
+        assertNull(repository.getView("expired"), "getView should not return expired values");
+        assertNull(repository.openInputStream("expired"), "openInputStream should not return expired values");
+        assertNull(repository.getDataStreaming("expired"), "getDataStreaming should not return expired values");
+        assertFalse(repository.isStored("expired"), "isStored should be false for expired values");
+
+        assertEquals("testValue", repository.getData("valid"), "getData should return values which did not expire yet");
+        assertEquals("testValue", repository.getView("valid").get(), "getView should skip the expiration header");
+        assertEquals("testValue", repository.getDataStreaming("valid"), "openInputStream should skip the expiration header");
+        assertTrue(repository.isStored("valid"), "isStored should be true for values which did not expire yet");
+    }
+
+    @Test
+    void sweepExpired_ShouldDeleteOnlyKeysWhichAreStillExpired() throws IOException {
+        // Expired long enough ago for their expiry index bucket to lie completely in the past
+        Instant past = Instant.now().minusSeconds(60);
+        repository.storeDataWithExpiration("expired", "testValue", past);
+        repository.storeDataWithExpiration("rewritten", "testValue", past);
+        repository.storeData("rewritten", "newValue");
+        repository.storeDataWithExpiration("extended", "testValue", past);
+        repository.storeDataWithExpiration("extended", "newValue", Duration.ofHours(1));
+
+        repository.sweepExpired();
+
+        assertFalse(Files.exists(Path.of(repository.getKeyFilePath("expired"))), "the file of the expired value should be deleted");
+        assertEquals("newValue", repository.getData("rewritten"), "a value stored again without expiration should survive the sweep");
+        assertEquals("newValue", repository.getData("extended"), "a value stored again with a later expiration should survive the sweep");
+        assertEquals(0, repository.sweepExpired(), "the swept bucket should not be visited again");
+    }
+
+    @Test
+    void getData_ShouldReadPlainAndLegacyFiles() throws Exception {
+        byte[] serializedValue = SerializationUtils.serialize("plainValue");
+        Path plain = Path.of(repository.getKeyFilePath("plain"));
+        Files.write(plain, serializedValue);
+
+        // Earlier versions wrapped the serialized value as block data in a second object stream
+        Path legacy = Path.of(repository.getKeyFilePath("legacy"));
+        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(legacy))) {
+            out.write(SerializationUtils.serialize("legacyValue"));
+        }
+
+        for (String key : List.of("plain", "legacy")) {
+            String expected = key + "Value";
+            assertEquals(expected, repository.getData(key), "getData should read " + key + " files");
+            assertEquals(expected, repository.getView(key).get(), "getView should read " + key + " files");
+            assertEquals(expected, repository.getDataStreaming(key), "getDataStreaming should read " + key + " files");
+            assertTrue(repository.isStored(key), "isStored should be true for " + key + " files");
+        }
+    }
+
+    @Test
+    void openInputStream_ShouldReturnNullForMissingKey() throws IOException {
+        assertNull(repository.openInputStream("missingKey"), "openInputStream should return null for a missing key");
+    }
+
+    @Test
+    void streaming_ShouldUseBoundedHeapForLargeValues() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        byte[] block = new byte[BLOCK_SIZE];
+
+        // Stream 256 MiB into the repository, every block is filled with its index
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        try (OutputStream out = repository.openOutputStream("largeValue")) {
+            for (int i = 0; i < BLOCK_COUNT; i++) {
+                Arrays.fill(block, (byte) i);
+                out.write(block);
+            }
+        }
+        long allocatedByWrite = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertEquals((long) BLOCK_SIZE * BLOCK_COUNT, Files.size(Path.of(repository.getKeyFilePath("largeValue"))), "all bytes should be written");
+        assertTrue(allocatedByWrite < MAX_ALLOCATED_BYTES, "writing allocated " + allocatedByWrite + " bytes");
+
+        // Stream it back and check every block
+        allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        try (InputStream in = repository.openInputStream("largeValue")) {
+            assertNotNull(in);
+            for (int i = 0; i < BLOCK_COUNT; i++) {
+                assertEquals(BLOCK_SIZE, in.readNBytes(block, 0, BLOCK_SIZE), "block " + i + " should be complete");
+                for (byte b : block) {
+                    if (b != (byte) i) fail("block " + i + " is corrupted");
+                }
+            }
+            assertEquals(-1, in.read(), "the value should end after the last block");
+        }
+        long allocatedByRead = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertTrue(allocatedByRead < MAX_ALLOCATED_BYTES, "reading allocated " + allocatedByRead + " bytes");
+    }
+
+    @Test
+    void keyIndex_ShouldBeRestoredFromManifestAndRebuiltWithoutIt() throws Exception {
+        File indexed = directory.resolve("indexed").toFile();
+        Path manifest = indexed.toPath().resolve(".manifest");
+
+        FileDataRepository<String> first = awaitKeyIndex(new FileDataRepository<>(indexed, false, true));
+        first.storeData("users.alice", "alice");
+        first.storeData("users.bob", "bob");
+        first.removeData("users.bob");
+        assertFalse(first.isStored("users.bob"), "a removed key should not be stored");
+        first.close();
+        assertTrue(Files.exists(manifest), "closing should write the manifest");
+
+        FileDataRepository<String> second = awaitKeyIndex(new FileDataRepository<>(indexed, false, true));
+        assertFalse(Files.exists(manifest), "a loaded manifest should be deleted, so a crash cannot leave it stale");
+        assertEquals("alice", second.getData("users.alice"), "keys of the manifest should be found");
+        assertNull(second.getData("users.bob"), "keys removed before the manifest was written should be missing");
+        second.close();
+
+        // A corrupted manifest is ignored and the index is rebuilt from the data files
+        byte[] bytes = Files.readAllBytes(manifest);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(manifest, bytes);
+        try (FileDataRepository<String> plain = new FileDataRepository<>(indexed)) {
+            plain.storeData("users.carol", "carol");
+        }
+
+        FileDataRepository<String> third = awaitKeyIndex(new FileDataRepository<>(indexed, false, true));
+        assertTrue(third.isStored("users.alice"), "rebuilding should find existing keys");
+        assertTrue(third.isStored("users.carol"), "rebuilding should not rely on the corrupted manifest");
+        assertFalse(third.isStored("users.dave"), "missing keys should not be stored");
+        third.close();
+    }
+
+    private static FileDataRepository<String> awaitKeyIndex(FileDataRepository<String> repository) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!repository.isKeyIndexReady()) {
+            if (System.nanoTime() > deadline) fail("the key index should be loaded in the background");
+            Thread.sleep(1);
+        }
+        return repository;
+    }
+
+    @Test
+    void concurrentAccess_ShouldNeverReadTornValues() throws Exception {
+        // Nested keys also exercise the creation of parent directories
+        for (int i = 0; i < STRESS_KEYS; i++) {
+            repository.storeData("stress.key" + i, value('a', 1));
+        }
+
+        int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                char fill = (char) ('a' + t % 26);
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < STRESS_OPERATIONS; i++) {
+                        String key = "stress.key" + random.nextInt(STRESS_KEYS);
+                        if (random.nextBoolean()) {
+                            repository.storeData(key, value(fill, 1 + random.nextInt(64)));
+                            continue;
+                        }
+
+                        // Every value consists of a single repeated character, a torn read would mix them up
+                        String read = repository.getData(key);
+                        assertNotNull(read, "a stored key should never be missing while it is replaced");
+                        assertEquals(0, read.length() % 1024, "the value should be complete");
+                        for (int c = 0; c < read.length(); c++) {
+                            if (read.charAt(c) != read.charAt(0)) fail("read a torn value for " + key);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, repository.getMetrics().snapshot().getErrors(), "no operation should fail");
+        try (Stream<Path> paths = Files.walk(directory)) {
+            assertEquals(0, paths.filter(path -> path.toString().endsWith(".tmp")).count(), "no temporary file should be left");
+        }
+    }
+
+    private static String value(char fill, int kilobytes) {
+        return String.valueOf(fill).repeat(kilobytes * 1024);
+    }
+
+}
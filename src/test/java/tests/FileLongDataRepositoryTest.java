@@ -0,0 +1,163 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.FileLongDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:FileLongDataRepositoryTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class FileLongDataRepositoryTest {
+
+    private Path file;
+    private FileLongDataRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("file-long-data-repository", ".slots");
+        repository = new FileLongDataRepository(file.toFile());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void reopen_ShouldReadTheValuesWrittenBeforeTheRestart() throws IOException {
+        for (int i = 0; i < 3000; i++) {
+            repository.setLong("key" + i, i);
+        }
+        repository.incrementBy("key7", 100);
+        repository.setLong("\u00fcml\u00e4ut", Long.MIN_VALUE);
+        repository.close();
+
+        repository = new FileLongDataRepository(file.toFile());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i == 7 ? 107 : i, repository.getLong("key" + i), "Values should survive a restart");
+        }
+        assertEquals(Long.MIN_VALUE, repository.getLong("\u00fcml\u00e4ut"), "Non ASCII keys should survive a restart");
+        assertEquals(108, repository.increment("key7"), "Increments should continue from the reloaded value");
+    }
+
+    @Test
+    void reopen_ShouldIgnoreATrailingPartialSlot() throws IOException {
+        repository.setLong("a", 1);
+        repository.close();
+        Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        repository = new FileLongDataRepository(file.toFile());
+        assertEquals(1, repository.getLong("a"));
+        repository.setLong("b", 2);
+        repository.close();
+
+        repository = new FileLongDataRepository(file.toFile());
+        assertEquals(1, repository.getLong("a"));
+        assertEquals(2, repository.getLong("b"), "The partial slot should be overwritten by the next new key");
+    }
+
+    @Test
+    void setLong_ShouldRejectKeysThatDoNotFitASlot() {
+        assertThrows(IllegalArgumentException.class, () -> repository.setLong("", 1));
+        assertThrows(IllegalArgumentException.class, () -> repository.setLong("k".repeat(FileLongDataRepository.MAX_KEY_BYTES + 1), 1));
+        repository.setLong("k".repeat(FileLongDataRepository.MAX_KEY_BYTES), 1);
+    }
+
+    @Test
+    void removeData_ShouldReuseTheSlotForTheNextNewKey() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            repository.setLong("key" + i, i);
+        }
+        long size = Files.size(file);
+
+        for (int round = 0; round < 1000; round++) {
+            assertTrue(repository.removeData("key" + round % 10), "removeData should remove a stored key");
+            repository.setLong("churn" + round, round);
+            assertTrue(repository.removeData("churn" + round), "removeData should remove a stored key");
+            repository.setLong("key" + round % 10, round);
+        }
+
+        assertEquals(size, Files.size(file), "Removing and adding keys should not grow the file");
+    }
+
+    @Test
+    void reopen_ShouldReuseSlotsRemovedBeforeTheRestart() throws IOException {
+        repository.setLong("a", 1);
+        repository.setLong("b", 2);
+        repository.setLong("c", 3);
+        repository.removeData("b");
+        long size = Files.size(file);
+        repository.close();
+
+        repository = new FileLongDataRepository(file.toFile());
+        assertFalse(repository.isStored("b"), "Removed keys should stay removed after a restart");
+        repository.setLong("d", 4);
+
+        assertEquals(size, Files.size(file), "Slots freed before a restart should be reused");
+        repository.close();
+        repository = new FileLongDataRepository(file.toFile());
+        assertEquals(1, repository.getLong("a"));
+        assertEquals(3, repository.getLong("c"));
+        assertEquals(4, repository.getLong("d"));
+        assertNull(repository.getData("b"), "Removed keys should stay removed after a restart");
+    }
+
+}
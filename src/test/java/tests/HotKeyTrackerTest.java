@@ -0,0 +1,119 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.cache.HotKeyTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:HotKeyTrackerTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class HotKeyTrackerTest {
+
+    @Test
+    void getHotKeys_ShouldReportTheMostFrequentKeys() {
+        HotKeyTracker tracker = new HotKeyTracker(10);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Every second access goes to one of ten hot keys, the rest is spread over a million cold keys
+        for (int i = 0; i < 1_000_000; i++) {
+            tracker.record(i % 2 == 0 ? "hot" + random.nextInt(10) : "cold" + random.nextInt(1_000_000));
+        }
+
+        Set<String> hotKeys = new HashSet<>();
+        for (Map.Entry<String, Long> entry : tracker.getHotKeys(10)) {
+            hotKeys.add(entry.getKey());
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(hotKeys.contains("hot" + i), "hot" + i + " should be reported as hot, got " + hotKeys);
+            assertTrue(tracker.isHot("hot" + i), "hot" + i + " should be hot");
+        }
+        assertFalse(tracker.isHot("cold1"), "A cold key should not be hot");
+    }
+
+    @Test
+    void record_ShouldLetKeysCoolDown() {
+        HotKeyTracker tracker = new HotKeyTracker(1, 256);
+        for (int i = 0; i < 1000; i++) {
+            tracker.record("old");
+        }
+        assertTrue(tracker.isHot("old"), "The only accessed key should be hot");
+
+        // The counters are halved repeatedly, until the new key overtakes the old one
+        for (int i = 0; i < 20_000; i++) {
+            tracker.record("new");
+        }
+        assertTrue(tracker.isHot("new"), "The currently accessed key should replace the old hot key");
+        assertTrue(tracker.estimate("old") < 1000, "The estimate of the old key should have been halved");
+    }
+
+    @Test
+    void record_ShouldNotEvictAHotterKey() {
+        HotKeyTracker tracker = new HotKeyTracker(1);
+        for (int i = 0; i < 101; i++) {
+            tracker.record("a");
+        }
+
+        // The threshold was set when "a" became hot with an estimate of 1
+        tracker.record("b");
+        tracker.record("b");
+
+        assertTrue(tracker.isHot("a"), "The hotter key should stay hot");
+        assertFalse(tracker.isHot("b"), "A colder key should not evict the hot key");
+    }
+
+}
@@ -46,13 +46,27 @@
 
 package tests;
 
+import com.izanagicraft.storage.cache.TimerWheel;
 import com.izanagicraft.storage.repository.DataRepository;
 import com.izanagicraft.storage.repository.InMemoryDataRepository;
+import com.izanagicraft.storage.utils.SerializationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * data-storage; tests:InMemoryDataRepositoryTest
@@ -120,4 +134,209 @@ class InMemoryDataRepositoryTest {
         assertTrue(integerRepository.isStored(key), "isStored should return true for a stored Integer key");
     }
 
+    @Test
+    void expiredValue_ShouldBeTreatedAsMissing() {
+        InMemoryDataRepository<String> repository = new InMemoryDataRepository<>();
+        repository.storeDataWithExpiration("expired", "testValue", Instant.now().minusSeconds(1));
+        repository.storeDataWithExpiration("valid", "testValue", Duration.ofHours(1));
+
+        assertFalse(repository.isStored("expired"), "isStored should be false for expired values");
+        assertNull(repository.getView("expired"), "getView should not return expired values");
+        assertNull(repository.getData("expired"), "getData should not return expired values");
+        assertFalse(repository.removeData("expired"), "removeData should not report expired values as removed");
+
+        assertTrue(repository.isStored("valid"), "isStored should be true for values which did not expire yet");
+        assertEquals("testValue", repository.getData("valid"), "getData should return values which did not expire yet");
+        repository.close();
+    }
+
+    @Test
+    void expirySweep_ShouldRemoveOnlyKeysWhichAreStillExpired() throws InterruptedException {
+        InMemoryDataRepository<String> repository = new InMemoryDataRepository<>();
+        repository.storeDataWithExpiration("expired", "testValue", Duration.ofMillis(100));
+        repository.storeDataWithExpiration("rewritten", "testValue", Duration.ofMillis(100));
+        repository.storeData("rewritten", "newValue");
+        repository.storeDataWithExpiration("extended", "testValue", Duration.ofMillis(100));
+        repository.storeDataWithExpiration("extended", "newValue", Duration.ofHours(1));
+
+        // The sweep runs once per second, and scanKeys also lists expired entries which were not removed yet
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scannedKeys(repository).contains("expired") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(Set.of("rewritten", "extended"), scannedKeys(repository), "only the expired entry should be removed");
+        assertEquals("newValue", repository.getData("rewritten"), "a value stored again without expiration should survive the sweep");
+        assertEquals("newValue", repository.getData("extended"), "a value stored again with a later expiration should survive the sweep");
+        repository.close();
+    }
+
+    @Test
+    void timerWheel_ShouldReportKeysDueInLaterRotations() {
+        // A rotation of the wheel takes 40ms
+        TimerWheel wheel = new TimerWheel(Duration.ofMillis(10), 4);
+        long now = System.currentTimeMillis();
+        wheel.schedule("soon", now + 45);
+        // Falls into the same slot as "soon", one rotation later
+        wheel.schedule("later", now + 85);
+        wheel.schedule("muchLater", now + 1000);
+
+        List<String> expired = new ArrayList<>();
+        assertEquals(0, wheel.advance(now + 20, expired::add), "no key should be due yet");
+        assertEquals(1, wheel.advance(now + 50, expired::add), "only the key due in this rotation should be reported");
+        assertEquals(List.of("soon"), expired, "only the key due in this rotation should be reported");
+
+        // Skips more than a full rotation at once
+        assertEquals(1, wheel.advance(now + 200, expired::add), "the key due in the next rotation should be reported");
+        assertEquals(List.of("soon", "later"), expired, "the key due in the next rotation should be reported");
+        assertEquals(1, wheel.size(), "the key due many rotations later should stay scheduled");
+
+        assertEquals(1, wheel.advance(now + 1000, expired::add), "the key should be reported once it is due");
+        assertEquals(0, wheel.size(), "reported keys should no longer be scheduled");
+    }
+
+    @Test
+    void snapshot_ShouldRestoreValuesAndExpirationTimes() throws Exception {
+        InMemoryDataRepository<String> source = new InMemoryDataRepository<>();
+        source.storeData("persistent", "a");
+        source.storeDataWithExpiration("expiring", "b", Duration.ofMillis(300));
+        source.storeDataWithExpiration("expired", "c", Instant.now().minusSeconds(1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, source.writeSnapshot(out, 10), "Expired entries should not be written");
+
+        InMemoryDataRepository<String> target = new InMemoryDataRepository<>();
+        assertEquals(2, target.readSnapshot(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals("a", target.getData("persistent"));
+        assertEquals("b", target.getData("expiring"));
+        assertFalse(target.isStored("expired"));
+
+        Thread.sleep(400);
+        assertFalse(target.isStored("expiring"), "The expiration time should be restored");
+        assertEquals("a", target.getData("persistent"));
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void snapshot_ShouldDropEntriesWhichExpiredSinceItWasWritten() throws Exception {
+        InMemoryDataRepository<String> source = new InMemoryDataRepository<>();
+        source.storeDataWithExpiration("short", "a", Duration.ofMillis(100));
+        source.storeDataWithExpiration("long", "b", Duration.ofHours(1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, source.writeSnapshot(out, 10));
+
+        Thread.sleep(150);
+        InMemoryDataRepository<String> target = new InMemoryDataRepository<>();
+        assertEquals(1, target.readSnapshot(new ByteArrayInputStream(out.toByteArray())), "Entries expired on restore should be dropped");
+        assertFalse(target.isStored("short"));
+        assertEquals("b", target.getData("long"));
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void snapshot_ShouldReadVersionOneSnapshotsWithoutExpirationTimes() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x495A5350);
+        out.writeByte(1);
+        for (String key : new String[]{"a", "b"}) {
+            byte[] value = SerializationUtils.serialize("value of " + key);
+            out.writeBoolean(true);
+            out.writeUTF(key);
+            out.writeInt(value.length);
+            out.write(value);
+        }
+        out.writeBoolean(false);
+
+        InMemoryDataRepository<String> repository = new InMemoryDataRepository<>();
+        assertEquals(2, repository.readSnapshot(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals("value of a", repository.getData("a"));
+        assertEquals("value of b", repository.getData("b"));
+        repository.close();
+    }
+
+    @Test
+    void snapshot_ShouldRejectUnsupportedStreams() {
+        InMemoryDataRepository<String> repository = new InMemoryDataRepository<>();
+
+        assertThrows(IOException.class, () -> repository.readSnapshot(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 1, 0})));
+        assertThrows(IOException.class, () -> repository.readSnapshot(new ByteArrayInputStream(new byte[]{0x49, 0x5A, 0x53, 0x50, 3, 0})),
+                "Snapshots of a newer version should be rejected");
+        assertThrows(IOException.class, () -> repository.readSnapshot(new ByteArrayInputStream(new byte[]{0x49, 0x5A, 0x53, 0x50, 2, 1})),
+                "Truncated snapshots should be rejected");
+        repository.close();
+    }
+
+    @Test
+    void writeSnapshot_ShouldKeepTheMostReadEntries() throws Exception {
+        InMemoryDataRepository<Object> source = new InMemoryDataRepository<>();
+        for (int i = 0; i < 5; i++) {
+            source.storeData("key" + i, "value" + i);
+            for (int read = 0; read < i * 10; read++) {
+                source.getData("key" + i);
+            }
+        }
+        source.storeData("unserializable", new Object());
+        for (int read = 0; read < 100; read++) {
+            source.getData("unserializable");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, source.writeSnapshot(out, 3), "Values which cannot be serialized should be skipped");
+
+        InMemoryDataRepository<Object> target = new InMemoryDataRepository<>();
+        target.readSnapshot(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(Set.of("key3", "key4"), scannedKeys(target), "Only the most read entries should be written");
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void readSnapshot_ShouldOnlyReplaceMissingOrExpiredEntries() throws Exception {
+        InMemoryDataRepository<String> source = new InMemoryDataRepository<>();
+        source.storeData("current", "from snapshot");
+        source.storeData("expired", "from snapshot");
+        source.storeData("missing", "from snapshot");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.writeSnapshot(out, 10);
+
+        InMemoryDataRepository<String> target = new InMemoryDataRepository<>();
+        target.storeData("current", "newer");
+        target.storeDataWithExpiration("expired", "stale", Instant.now().minusSeconds(1));
+
+        assertEquals(2, target.readSnapshot(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals("newer", target.getData("current"), "Warming up should not overwrite newer values");
+        assertEquals("from snapshot", target.getData("expired"), "Expired values should be replaced by the snapshot");
+        assertEquals("from snapshot", target.getData("missing"));
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void scheduledSnapshots_ShouldWarmUpTheNextRepository() throws Exception {
+        Path directory = Files.createTempDirectory("in-memory-snapshot");
+        Path file = directory.resolve("snapshot.bin");
+        try {
+            InMemoryDataRepository<String> first = new InMemoryDataRepository<>();
+            assertEquals(0, first.loadSnapshot(file), "A missing snapshot should load nothing");
+            first.scheduleSnapshots(file, 100, Duration.ofHours(1));
+            first.storeData("key", "value");
+            first.close();
+
+            InMemoryDataRepository<String> second = new InMemoryDataRepository<>();
+            assertEquals(1, second.loadSnapshot(file), "Closing should save a final snapshot");
+            assertEquals("value", second.getData("key"));
+            second.close();
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static Set<String> scannedKeys(InMemoryDataRepository<?> repository) {
+        return repository.scanKeys("").collect(Collectors.toSet());
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.index.FileIndexStore;
+import com.izanagicraft.storage.index.IndexedDataRepository;
+import com.izanagicraft.storage.repository.FileDataRepository;
+import com.izanagicraft.storage.repository.InMemoryDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:IndexedDataRepositoryTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class IndexedDataRepositoryTest {
+
+    private Path directory;
+    private FileDataRepository<String> fileRepository;
+    private IndexedDataRepository<String> repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("indexed-data-repository");
+        fileRepository = new FileDataRepository<>(directory.resolve("data").toFile());
+        repository = new IndexedDataRepository<>(fileRepository, new FileIndexStore(directory.resolve("index").toFile()));
+        repository.addIndex("color", value -> value.substring(0, value.indexOf(':')));
+        repository.setBatchSize(2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void findBy_ShouldFollowWritesAndRemovals() {
+        repository.storeData("fruit.apple", "red:apple");
+        repository.storeData("fruit.cherry", "red:cherry");
+        repository.storeData("fruit.lime", "green:lime");
+        repository.storeData("fruit.strawberry", "red:strawberry");
+
+        assertEquals(Set.of("red:apple", "red:cherry", "red:strawberry"), find("color", "red"), "findBy should return all matching values");
+
+        repository.storeData("fruit.apple", "green:apple");
+        repository.removeData("fruit.cherry");
+
+        assertEquals(Set.of("red:strawberry"), find("color", "red"), "findBy should not return moved or removed keys");
+        assertEquals(Set.of("green:apple", "green:lime"), find("color", "green"), "findBy should return moved keys under their new value");
+        try (Stream<String> keys = repository.findKeysBy("color", "green")) {
+            assertEquals(Set.of("fruit.apple", "fruit.lime"), keys.collect(Collectors.toSet()), "findKeysBy should return the keys of the matching values");
+        }
+        assertThrows(IllegalArgumentException.class, () -> repository.findBy("size", "small"), "findBy should reject undeclared indexes");
+    }
+
+    @Test
+    void findBy_ShouldSkipValuesWrittenPastTheIndex() {
+        repository.storeData("fruit.apple", "red:apple");
+        fileRepository.storeData("fruit.apple", "green:apple");
+
+        assertEquals(Set.of(), find("color", "red"), "findBy should drop values whose attribute no longer matches");
+    }
+
+    @Test
+    void rebuildIndexes_ShouldIndexExistingValues() {
+        InMemoryDataRepository<String> memory = new InMemoryDataRepository<>();
+        memory.storeAllData(Map.of("a", "red:apple", "b", "green:lime", "c", "red:cherry"));
+        IndexedDataRepository<String> indexed = new IndexedDataRepository<>(memory);
+        indexed.addIndex("color", value -> value.substring(0, value.indexOf(':')));
+
+        try (Stream<String> found = indexed.findBy("color", "red")) {
+            assertEquals(0, found.count(), "Values stored before the index was declared should not be indexed");
+        }
+        indexed.rebuildIndexes();
+        try (Stream<String> found = indexed.findBy("color", "red")) {
+            assertEquals(List.of("red:apple", "red:cherry"), found.sorted().toList(), "rebuildIndexes should index all stored values");
+        }
+        memory.close();
+    }
+
+    private Set<String> find(String index, Object value) {
+        try (Stream<String> found = repository.findBy(index, value)) {
+            return found.collect(Collectors.toSet());
+        }
+    }
+
+}
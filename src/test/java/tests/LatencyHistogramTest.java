@@ -0,0 +1,185 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:LatencyHistogramTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class LatencyHistogramTest {
+
+    // Every power of two is split into 16 sub-buckets
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 16;
+
+    @Test
+    void snapshot_ShouldReportZeroWithoutValues() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+        assertEquals(0, snapshot.getMean());
+    }
+
+    @Test
+    void getValueAtPercentile_ShouldBeExactForSmallValues() {
+        for (int value = 0; value < 32; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(1000);
+
+            assertEquals(value, histogram.snapshot().getValueAtPercentile(50), "Values below 32 should have their own bucket");
+        }
+    }
+
+    @Test
+    void getValueAtPercentile_ShouldStayWithinTheBucketError() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = 32 + (random.nextLong() >>> (23 + random.nextInt(30)));
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            // A larger second value keeps the reported percentile from being capped at the maximum
+            histogram.record(value * 4);
+
+            long reported = histogram.snapshot().getValueAtPercentile(50);
+            assertTrue(reported >= value, "The bucket upper bound should not be below " + value + ", was " + reported);
+            assertTrue(reported <= value * (1 + MAX_RELATIVE_ERROR), "The bucket of " + value + " is too wide, reported " + reported);
+        }
+    }
+
+    @Test
+    void getValueAtPercentile_ShouldFollowTheRecordedDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(1, snapshot.getValueAtPercentile(0), "The lowest percentile should report the smallest value");
+        assertEquals(1000, snapshot.getValueAtPercentile(100), "The highest percentile should report the maximum");
+        assertEquals(1000, snapshot.getValueAtPercentile(150), "Percentiles above 100 should be clamped");
+        assertBetween(500, snapshot.getValueAtPercentile(50));
+        assertBetween(990, snapshot.getValueAtPercentile(99));
+        assertBetween(999, snapshot.getValueAtPercentile(99.9));
+        assertEquals(500.5, snapshot.getMean(), 500.5 * MAX_RELATIVE_ERROR);
+    }
+
+    @Test
+    void record_ShouldClampOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(50), "Negative values should be recorded as zero");
+        assertEquals(Long.MAX_VALUE, snapshot.getMax(), "The maximum should not be clamped");
+        assertTrue(snapshot.getValueAtPercentile(100) > TimeUnit.HOURS.toNanos(1), "Huge values should land in the last bucket");
+    }
+
+    @Test
+    void reset_ShouldNotChangeEarlierSnapshots() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        LatencyHistogram.Snapshot before = histogram.snapshot();
+        histogram.reset();
+        LatencyHistogram.Snapshot after = histogram.snapshot();
+
+        assertEquals(1, before.getCount());
+        assertEquals(100, before.getMax());
+        assertEquals(0, after.getCount());
+        assertEquals(0, after.getMax());
+        histogram.record(7);
+        assertEquals(7, histogram.snapshot().getMax(), "The maximum should start over after a reset");
+    }
+
+    @Test
+    void record_ShouldCountConcurrentValues() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int thread = 0; thread < futures.length; thread++) {
+                futures[thread] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80_000, histogram.snapshot().getCount(), "No concurrently recorded value should be lost");
+        assertEquals(9_999, histogram.snapshot().getMax());
+    }
+
+    private static void assertBetween(long expected, long reported) {
+        assertTrue(reported >= expected && reported <= expected * (1 + MAX_RELATIVE_ERROR),
+                "Expected about " + expected + " but was " + reported);
+    }
+
+}
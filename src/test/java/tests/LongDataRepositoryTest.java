@@ -0,0 +1,153 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.FileLongDataRepository;
+import com.izanagicraft.storage.repository.InMemoryLongDataRepository;
+import com.izanagicraft.storage.repository.LongDataRepository;
+import com.izanagicraft.storage.repository.RedisLongDataRepository;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:LongDataRepositoryTest
+ * <p>
+ * Checks that every {@link LongDataRepository} implementation follows the same counter semantics.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class LongDataRepositoryTest {
+
+    @Test
+    void inMemory_ShouldFollowTheCounterSemantics() {
+        assertCounterSemantics(new InMemoryLongDataRepository());
+    }
+
+    @Test
+    void file_ShouldFollowTheCounterSemantics() throws Exception {
+        Path file = Files.createTempFile("long-data-repository", ".slots");
+        try (FileLongDataRepository repository = new FileLongDataRepository(file.toFile())) {
+            assertCounterSemantics(repository);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void redis_ShouldFollowTheCounterSemantics() throws Exception {
+        try (FakeRedisServer server = new FakeRedisServer();
+             RedisLongDataRepository repository = new RedisLongDataRepository(server.getUri())) {
+            assertCounterSemantics(repository);
+        }
+    }
+
+    @Test
+    void redisIncrementBy_ShouldThrowForValuesThatAreNotIntegers() throws Exception {
+        try (FakeRedisServer server = new FakeRedisServer();
+             RedisLongDataRepository repository = new RedisLongDataRepository(server.getUri());
+             Jedis jedis = new Jedis(server.getUri())) {
+            jedis.set("text", "not a number");
+
+            assertThrows(JedisDataException.class, () -> repository.incrementBy("text", 1), "A failed increment should not return a value");
+            assertEquals(1, repository.getMetrics().snapshot().getErrors());
+        }
+    }
+
+    @Test
+    void redisIncrementBy_ShouldThrowWhileTheServerIsDown() throws Exception {
+        try (FakeRedisServer server = new FakeRedisServer();
+             RedisLongDataRepository repository = new RedisLongDataRepository(server.getUri())) {
+            assertEquals(1, repository.increment("counter"));
+            server.stop();
+
+            assertThrows(JedisConnectionException.class, () -> repository.increment("counter"), "A failed increment should not return 0");
+        }
+    }
+
+    private static void assertCounterSemantics(LongDataRepository repository) {
+        assertEquals(0, repository.getLong("counter"), "Absent keys should read as 0");
+        assertNull(repository.getData("counter"), "Absent keys should have no boxed value");
+        assertFalse(repository.isStored("counter"));
+
+        assertEquals(5, repository.incrementBy("counter", 5), "Absent keys should start at 0");
+        assertEquals(6, repository.increment("counter"));
+        assertEquals(-4, repository.incrementBy("counter", -10), "Negative deltas should decrement");
+        assertEquals(-4, repository.getLong("counter"));
+        assertEquals(Long.valueOf(-4), repository.getData("counter"));
+        assertTrue(repository.isStored("counter"));
+
+        assertEquals(100, repository.setLong("counter", 100));
+        assertEquals(101, repository.increment("counter"), "Increments should continue from a set value");
+        assertEquals(Long.valueOf(7), repository.storeData("boxed", 7L));
+        assertEquals(7, repository.getLong("boxed"));
+
+        assertTrue(repository.removeData("counter"));
+        assertFalse(repository.removeData("counter"), "Removing an absent key should report false");
+        assertEquals(1, repository.increment("counter"), "Removed keys should start at 0 again");
+
+        for (int i = 0; i < 1000; i++) {
+            repository.setLong("key" + i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, repository.getLong("key" + i), "Values should survive growing the repository");
+        }
+
+        repository.clearStorage();
+        assertFalse(repository.isStored("counter"));
+        assertFalse(repository.isStored("key1"));
+        assertEquals(1, repository.increment("counter"), "Cleared keys should start at 0 again");
+    }
+
+}
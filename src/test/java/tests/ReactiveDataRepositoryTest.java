@@ -0,0 +1,203 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.reactive.BatchingSubscriber;
+import com.izanagicraft.storage.reactive.ReactiveDataRepository;
+import com.izanagicraft.storage.repository.InMemoryDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:ReactiveDataRepositoryTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class ReactiveDataRepositoryTest {
+
+    private InMemoryDataRepository<String> repository;
+    private ReactiveDataRepository<String> reactive;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryDataRepository<>();
+        reactive = new ReactiveDataRepository<>(repository);
+        reactive.setBatchSize(64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void storeAll_ShouldStoreAllPublishedEntries() throws Exception {
+        BatchingSubscriber<String> sink = reactive.storeAll();
+        try (SubmissionPublisher<Map.Entry<String, String>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(sink);
+            for (int i = 0; i < 10_000; i++) {
+                publisher.submit(Map.entry("key:" + i, "value" + i));
+            }
+        }
+
+        long stored = sink.getResult().get(10, TimeUnit.SECONDS);
+        assertEquals(10_000, stored, "The sink should report all stored entries");
+        assertEquals("value9999", repository.getData("key:9999"), "The last entry should be stored");
+        assertEquals(10_000L, repository.scanKeys("key:").count(), "All entries should be stored");
+    }
+
+    @Test
+    void storeAll_ShouldRequestMoreForRepeatedKeys() throws Exception {
+        reactive.setBatchSize(4);
+        BatchingSubscriber<String> sink = reactive.storeAll();
+        try (SubmissionPublisher<Map.Entry<String, String>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(sink);
+            // Every batch holds only two distinct keys but consumes four entries of the demand
+            for (int i = 0; i < 40; i++) {
+                publisher.submit(Map.entry("k" + (i % 2), "value" + i));
+            }
+        }
+
+        long stored = sink.getResult().get(10, TimeUnit.SECONDS);
+        assertEquals(40, stored, "The sink should report all received entries");
+        assertEquals("value38", repository.getData("k0"), "The last value of a key should be stored");
+        assertEquals("value39", repository.getData("k1"), "The last value of a key should be stored");
+    }
+
+    @Test
+    void getAll_ShouldSkipMissingKeysAndRespectDemand() throws Exception {
+        for (int i = 0; i < 100; i += 2) {
+            repository.storeData("key:" + i, "value" + i);
+        }
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add("key:" + i);
+        }
+
+        // Requesting one element at a time has to walk the whole key list in order
+        Collector<Map.Entry<String, String>> collector = new Collector<>(1);
+        reactive.getAll(keys).subscribe(collector);
+        collector.completion.get(10, TimeUnit.SECONDS);
+
+        assertEquals(50, collector.elements.size(), "Only the stored keys should be published");
+        assertEquals("key:0", collector.elements.get(0).getKey(), "Entries should follow the key order");
+        assertEquals("value98", collector.elements.get(49).getValue(), "Entries should follow the key order");
+    }
+
+    @Test
+    void scanKeys_ShouldNotPublishMoreThanRequested() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            repository.storeData("key:" + i, "value" + i);
+        }
+
+        Collector<String> collector = new Collector<>(0);
+        reactive.scanKeys("key:").subscribe(collector);
+        collector.subscribed.await(10, TimeUnit.SECONDS);
+        collector.subscription.request(5);
+        Thread.sleep(200);
+
+        assertEquals(5, collector.elements.size(), "Exactly the requested number of keys should be published");
+        assertFalse(collector.completion.isDone(), "The publisher should not complete before all keys were requested");
+
+        collector.subscription.request(Long.MAX_VALUE);
+        collector.completion.get(10, TimeUnit.SECONDS);
+        assertEquals(1000, collector.elements.size(), "All keys should be published once requested");
+    }
+
+    private static final class Collector<E> implements Flow.Subscriber<E> {
+
+        private final List<E> elements = new ArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final long demand;
+        private volatile Flow.Subscription subscription;
+
+        private Collector(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+            if (demand > 0) subscription.request(demand);
+        }
+
+        @Override
+        public void onNext(E element) {
+            synchronized (elements) {
+                elements.add(element);
+            }
+            if (demand > 0) subscription.request(demand);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.RedisHashDataRepository;
+import com.izanagicraft.storage.utils.FieldCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:RedisHashDataRepositoryTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class RedisHashDataRepositoryTest {
+
+    private FakeRedisServer server;
+    private RedisHashDataRepository<Profile> repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeRedisServer();
+        repository = new RedisHashDataRepository<>(server.getUri(), new ProfileCodec());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        server.close();
+    }
+
+    @Test
+    void getData_ShouldDecodeTheStoredFields() {
+        repository.storeData("profile", new Profile("alice", 3, "admin"));
+
+        assertEquals(new Profile("alice", 3, "admin"), repository.getData("profile"));
+        assertEquals("alice", repository.getField("profile", "name"));
+        assertEquals("3", repository.getField("profile", "level"));
+        assertNull(repository.getField("profile", "unknown"), "Missing fields should read as null");
+        assertNull(repository.getField("absent", "name"), "Fields of missing objects should read as null");
+        assertNull(repository.getData("absent"));
+    }
+
+    @Test
+    void storeData_ShouldReplaceAllFields() {
+        repository.storeData("profile", new Profile("alice", 3, "admin"));
+        repository.storeData("profile", new Profile("alice", 4, null));
+
+        assertNull(repository.getField("profile", "title"), "Fields missing from the new object should be removed");
+        assertEquals(new Profile("alice", 4, null), repository.getData("profile"));
+    }
+
+    @Test
+    void storeData_ShouldRemoveTheObjectIfItHasNoFields() {
+        repository.storeData("profile", new Profile("alice", 3, "admin"));
+        repository.storeData("profile", new Profile(null, 0, null));
+
+        assertFalse(repository.isStored("profile"), "Redis does not keep empty hashes");
+        assertNull(repository.getData("profile"));
+    }
+
+    @Test
+    void setFields_ShouldOnlyWriteTheGivenFields() {
+        repository.storeData("profile", new Profile("alice", 3, "admin"));
+        repository.setFields("profile", Map.of("level", "5", "title", "owner"));
+
+        assertEquals(new Profile("alice", 5, "owner"), repository.getData("profile"));
+    }
+
+    @Test
+    void setFields_ShouldCreateMissingObjects() {
+        repository.setFields("profile", Map.of("name", "bob"));
+
+        assertEquals(new Profile("bob", 0, null), repository.getData("profile"), "Missing fields should be decoded as unset");
+    }
+
+    @Test
+    void setFields_ShouldIgnoreAnEmptyFieldMap() {
+        repository.setFields("profile", Map.of());
+        assertFalse(repository.isStored("profile"), "An empty field map should not create the object");
+
+        repository.storeData("profile", new Profile("alice", 3, "admin"));
+        repository.setFields("profile", Map.of());
+        assertEquals(new Profile("alice", 3, "admin"), repository.getData("profile"));
+        assertEquals(1, server.getCommandCount("HSET"), "An empty field map should not reach Redis");
+    }
+
+    @Test
+    void getFields_ShouldOnlyReturnExistingFields() {
+        repository.storeData("profile", new Profile("alice", 3, null));
+
+        assertEquals(Map.of("name", "alice", "level", "3"), repository.getFields("profile", "name", "level", "title"));
+        assertEquals(Map.of("level", "3"), repository.getFields("profile", "level"));
+        assertEquals(Map.of(), repository.getFields("profile"), "No requested fields should give an empty map");
+        assertEquals(Map.of(), repository.getFields("absent", "name", "level"), "Missing objects should give an empty map");
+        assertEquals(3, server.getCommandCount("HMGET"), "Requesting no fields should not reach Redis");
+    }
+
+    @Test
+    void removeFields_ShouldRemoveTheObjectWithItsLastField() {
+        repository.storeData("profile", new Profile("alice", 3, null));
+
+        repository.removeFields("profile", "level");
+        assertEquals(new Profile("alice", 0, null), repository.getData("profile"));
+        repository.removeFields("profile", "name");
+        assertFalse(repository.isStored("profile"));
+    }
+
+    @Test
+    void storeDataWithExpiration_ShouldExpireTheObject() {
+        repository.storeDataWithExpiration("seconds", new Profile("a", 1, null), 60);
+        repository.storeDataWithExpiration("duration", new Profile("b", 2, null), Duration.ofMinutes(1));
+        repository.storeDataWithExpiration("instant", new Profile("c", 3, null), Instant.now().plusSeconds(60));
+
+        assertTrue(server.expires("seconds"));
+        assertTrue(server.expires("duration"));
+        assertTrue(server.expires("instant"));
+        assertEquals(new Profile("c", 3, null), repository.getData("instant"));
+    }
+
+    @Test
+    void storeDataWithExpiration_ShouldRemoveObjectsThatHaveAlreadyExpired() {
+        for (String key : new String[]{"seconds", "zero", "negative", "epoch", "past"}) {
+            repository.storeData(key, new Profile("old", 1, null));
+        }
+
+        repository.storeDataWithExpiration("seconds", new Profile("new", 2, null), 0);
+        repository.storeDataWithExpiration("zero", new Profile("new", 2, null), Duration.ZERO);
+        repository.storeDataWithExpiration("negative", new Profile("new", 2, null), Duration.ofSeconds(-5));
+        repository.storeDataWithExpiration("epoch", new Profile("new", 2, null), Instant.EPOCH);
+        repository.storeDataWithExpiration("past", new Profile("new", 2, null), Instant.now().minusSeconds(60));
+
+        for (String key : new String[]{"seconds", "zero", "negative", "epoch", "past"}) {
+            assertNull(repository.getData(key), key + " should not be stored without an expiration time");
+        }
+        assertEquals(0, repository.getMetrics().snapshot().getErrors());
+    }
+
+    /**
+     * A profile with an optional title, fields which are not set are omitted from the encoding.
+     */
+    private static final class Profile {
+
+        private final String name;
+        private final int level;
+        private final String title;
+
+        Profile(String name, int level, String title) {
+            this.name = name;
+            this.level = level;
+            this.title = title;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Profile other)) return false;
+            return Objects.equals(name, other.name) && level == other.level && Objects.equals(title, other.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, level, title);
+        }
+
+        @Override
+        public String toString() {
+            return "Profile{name=" + name + ", level=" + level + ", title=" + title + "}";
+        }
+
+    }
+
+    private static final class ProfileCodec implements FieldCodec<Profile> {
+
+        @Override
+        public Map<String, String> encode(Profile value) {
+            Map<String, String> fields = new HashMap<>();
+            if (value.name != null) fields.put("name", value.name);
+            if (value.level != 0) fields.put("level", Integer.toString(value.level));
+            if (value.title != null) fields.put("title", value.title);
+            return fields;
+        }
+
+        @Override
+        public Profile decode(Map<String, String> fields) {
+            String level = fields.get("level");
+            return new Profile(fields.get("name"), level == null ? 0 : Integer.parseInt(level), fields.get("title"));
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.CachedRedisDataRepository;
+import com.izanagicraft.storage.repository.RedisDataRepository;
+import com.izanagicraft.storage.resilience.CircuitBreaker;
+import com.izanagicraft.storage.resilience.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:RedisResilienceTest
+ * <p>
+ * Runs the Redis repositories against a {@link FakeRedisServer} which is stopped and restarted to simulate outages.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class RedisResilienceTest {
+
+    private FakeRedisServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeRedisServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void circuitBreaker_ShouldFailFastWhileOpen() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+        try (RedisDataRepository<String> repository = new RedisDataRepository<>(server.getUri(), Duration.ofMillis(200), Duration.ofMillis(200))) {
+            repository.setRetryPolicy(new RetryPolicy(2, Duration.ofMillis(5), Duration.ofMillis(20)));
+            repository.setCircuitBreaker(breaker);
+
+            repository.storeData("key", "value");
+            assertEquals("value", repository.getData("key"), "The value should be read while Redis is up");
+
+            server.stop();
+            assertNull(repository.getData("key"), "Reads should fail while Redis is down");
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState(), "The failed attempts should open the breaker");
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 1000; i++) {
+                assertNull(repository.getData("key"), "Reads should fail while the breaker is open");
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMillis < 1000, "Reads should fail fast while the breaker is open, took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Test
+    void outage_ShouldServeStaleValuesAndReplayWrites() throws Exception {
+        try (CachedRedisDataRepository<String> repository = new CachedRedisDataRepository<>(server.getUri(), Duration.ofMillis(200), Duration.ofMillis(200))) {
+            repository.setRetryPolicy(new RetryPolicy(2, Duration.ofMillis(5), Duration.ofMillis(20)));
+            repository.setCircuitBreaker(new CircuitBreaker(2, Duration.ofMillis(300)));
+
+            repository.storeData("cached", "before");
+            assertEquals("before", repository.getData("cached"), "The value should be read while Redis is up");
+
+            server.stop();
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("before", repository.getData("cached"), "The cached value should be served while Redis is down");
+            }
+
+            repository.storeData("written", "during outage");
+            assertEquals(1, repository.getPendingWriteCount(), "The write should be queued while Redis is down");
+            assertEquals("during outage", repository.getData("written"), "Queued writes should be readable from the cache");
+
+            server.start();
+            Thread.sleep(400);
+
+            // The next operation probes Redis, closes the breaker and replays the queued write
+            assertEquals("before", repository.getData("cached"), "The value should be read once Redis is back");
+            assertEquals(0, repository.getPendingWriteCount(), "The queued write should have been replayed");
+            assertTrue(server.contains("written"), "The queued write should have reached Redis");
+        }
+    }
+
+    @Test
+    void outage_ShouldNotReplayAfterEveryFailureWithoutCircuitBreaker() throws Exception {
+        try (CachedRedisDataRepository<String> repository = new CachedRedisDataRepository<>(server.getUri(), Duration.ofMillis(200), Duration.ofMillis(200))) {
+            server.stop();
+            for (int i = 0; i < 5; i++) {
+                repository.storeData("key" + i, "during outage");
+            }
+
+            // Every write tried Redis once, none of them tried to replay the writes queued before
+            long errors = repository.getRedisMetrics().snapshot().getErrors();
+            assertEquals(5, errors, "Writes during the outage should not replay the queued writes");
+            assertEquals(5, repository.getPendingWriteCount(), "The writes should be queued while Redis is down");
+
+            server.start();
+            Thread.sleep(1100);
+
+            assertEquals("during outage", repository.getData("key0"), "The cached value should be read once Redis is back");
+            assertEquals(0, repository.getPendingWriteCount(), "The queued writes should have been replayed");
+            assertTrue(server.contains("key4"), "The queued writes should have reached Redis");
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.RedisDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:RedisStreamingTest
+ * <p>
+ * Runs the chunked streaming of the {@link RedisDataRepository} against a {@link FakeRedisServer}, checking which
+ * keys are left behind.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class RedisStreamingTest {
+
+    // Spans three chunks of 1 MiB
+    private static final int LARGE_SIZE = 2 * 1024 * 1024 + 1;
+
+    private FakeRedisServer server;
+    private RedisDataRepository<Object> repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeRedisServer();
+        repository = new RedisDataRepository<>(server.getUri());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        server.close();
+    }
+
+    @Test
+    void storeDataStreaming_ShouldKeepPreviousValueIfSerializationFails() throws Exception {
+        repository.storeDataStreaming("key", large((byte) 1));
+        Set<String> keysBefore = server.keys();
+
+        List<Object> value = new ArrayList<>(List.of(large((byte) 2), new Object()));
+        assertThrows(NotSerializableException.class, () -> repository.storeDataStreaming("key", value),
+                "storeDataStreaming should report the serialization failure");
+
+        assertArrayEquals(large((byte) 1), (byte[]) repository.getDataStreaming("key"), "the previous value should survive a failed write");
+        assertEquals(keysBefore, server.keys(), "the chunks of the failed write should be deleted");
+    }
+
+    @Test
+    void storeData_ShouldDeleteTheChunksOfAStreamedValue() throws Exception {
+        repository.storeDataStreaming("key", large((byte) 1));
+        assertTrue(server.keys().size() > 2, "the streamed value should be stored in chunks");
+
+        repository.storeData("key", "plain");
+
+        assertEquals(Set.of("key"), server.keys(), "a plain write should delete the descriptor and all chunks");
+        assertEquals("plain", repository.getDataStreaming("key"), "the plain value should be read");
+    }
+
+    @Test
+    void storeDataStreaming_ShouldReplaceAPlainValue() throws Exception {
+        repository.storeData("key", "plain");
+        repository.storeDataStreaming("key", large((byte) 1));
+        repository.storeDataStreaming("key", large((byte) 2));
+
+        assertArrayEquals(large((byte) 2), (byte[]) repository.getDataStreaming("key"), "the last streamed value should be read");
+        assertFalse(server.contains("key"), "the plain value should be deleted");
+        assertEquals(4, server.keys().size(), "only the descriptor and the chunks of the last value should be left");
+
+        assertTrue(repository.removeData("key"), "the streamed value should be removed");
+        assertEquals(Set.of(), server.keys(), "removing should delete the descriptor and all chunks");
+    }
+
+    @Test
+    void streamedValue_ShouldBeVisibleToReadsAndScansUnderItsKey() throws Exception {
+        repository.storeData("plain", "value");
+        repository.storeDataStreaming("streamed", large((byte) 1));
+
+        assertTrue(repository.isStored("streamed"), "isStored should find a streamed value");
+        assertArrayEquals(large((byte) 1), (byte[]) repository.getData("streamed"), "getData should read a streamed value");
+        assertArrayEquals(large((byte) 1), (byte[]) repository.getAllData(List.of("plain", "streamed")).get("streamed"),
+                "getAllData should read a streamed value");
+        assertEquals(List.of("plain", "streamed"), repository.scanKeys("").sorted().toList(),
+                "scanKeys should report every key once and skip the chunks");
+        assertEquals(List.of("streamed"), repository.scanKeys("str").toList(), "scanKeys should match streamed keys by prefix");
+    }
+
+    @Test
+    void chunks_ShouldExpireUntilTheStreamIsClosed() throws Exception {
+        OutputStream out = repository.openOutputStream("key");
+        out.write(large((byte) 1));
+        Set<String> chunks = server.keys();
+        assertEquals(2, chunks.size(), "the full chunks should be written before the stream is closed");
+        assertTrue(chunks.stream().allMatch(server::expires), "chunks of an unfinished stream should expire");
+
+        out.close();
+        assertTrue(server.keys().stream().noneMatch(server::expires), "the chunks of a complete value should not expire");
+    }
+
+    @Test
+    void storeData_ShouldRejectKeysInTheStreamNamespace() {
+        assertThrows(IllegalArgumentException.class, () -> repository.storeData("\u0000stream:d:key", "value"),
+                "keys which could overwrite a descriptor should be rejected");
+        assertTrue(server.keys().isEmpty(), "nothing should be stored under a rejected key");
+    }
+
+    private static byte[] large(byte fill) {
+        byte[] value = new byte[LARGE_SIZE];
+        Arrays.fill(value, fill);
+        return value;
+    }
+
+}
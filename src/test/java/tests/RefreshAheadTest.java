@@ -0,0 +1,126 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.repository.CachedRedisDataRepository;
+import com.izanagicraft.storage.repository.RedisDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:RefreshAheadTest
+ * <p>
+ * Runs refresh-ahead of the {@link CachedRedisDataRepository} against a {@link FakeRedisServer}, counting the
+ * {@code PTTL} commands every reload sends.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class RefreshAheadTest {
+
+    private FakeRedisServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeRedisServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void refreshAhead_ShouldNotReloadAnUnchangedExpirationRepeatedly() throws Exception {
+        try (CachedRedisDataRepository<String> repository = new CachedRedisDataRepository<>(server.getUri())) {
+            repository.enableRefreshAhead(Duration.ofSeconds(10), Duration.ofSeconds(10), 16);
+            repository.storeDataWithExpiration("key", "value", Duration.ofSeconds(5));
+
+            long reloadsBefore = server.getCommandCount("PTTL");
+            for (int i = 0; i < 200; i++) {
+                assertEquals("value", repository.getData("key"), "The cached value should be served while it is reloaded");
+                Thread.sleep(2);
+            }
+
+            long reloads = server.getCommandCount("PTTL") - reloadsBefore;
+            assertEquals(1, reloads, "A reload which did not move the expiration should not be repeated within the cooldown");
+        }
+    }
+
+    @Test
+    void refreshAhead_ShouldPickUpRewrittenValuesAfterTheCooldown() throws Exception {
+        try (CachedRedisDataRepository<String> repository = new CachedRedisDataRepository<>(server.getUri());
+             RedisDataRepository<String> other = new RedisDataRepository<>(server.getUri())) {
+            repository.enableRefreshAhead(Duration.ofSeconds(10), Duration.ofMillis(50), 16);
+            repository.storeDataWithExpiration("key", "old", Duration.ofSeconds(5));
+            assertEquals("old", repository.getData("key"), "The stored value should be cached");
+
+            // Written by another client, the cache only learns about it by reloading
+            other.storeDataWithExpiration("key", "new", Duration.ofSeconds(8));
+
+            long deadline = System.nanoTime() + 2_000_000_000L;
+            while (!"new".equals(repository.getData("key"))) {
+                if (System.nanoTime() > deadline) fail("The rewritten value should be reloaded once the cooldown passed");
+                Thread.sleep(5);
+            }
+
+            long reloadsBefore = server.getCommandCount("PTTL");
+            for (int i = 0; i < 50; i++) {
+                repository.getData("key");
+                Thread.sleep(2);
+            }
+            long reloads = server.getCommandCount("PTTL") - reloadsBefore;
+            assertTrue(reloads <= 4, "Reloads should be limited by the cooldown, got " + reloads);
+        }
+    }
+
+}
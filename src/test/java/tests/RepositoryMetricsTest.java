@@ -0,0 +1,223 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.metrics.JmxMetricsExporter;
+import com.izanagicraft.storage.metrics.MetricsReporter;
+import com.izanagicraft.storage.metrics.MetricsSnapshot;
+import com.izanagicraft.storage.metrics.RepositoryMetrics;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:RepositoryMetricsTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class RepositoryMetricsTest {
+
+    @Test
+    void snapshot_ShouldCopyTheRecordedMetrics() {
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        metrics.recordRead(1_000);
+        metrics.recordRead();
+        metrics.recordWrite(2_000);
+        metrics.recordHit();
+        metrics.recordHit();
+        metrics.recordHit();
+        metrics.recordMiss();
+        metrics.recordError();
+        metrics.recordBytesRead(10);
+        metrics.recordBytesWritten(20);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        metrics.recordRead(1_000);
+
+        assertEquals(2, snapshot.getReads(), "Later reads should not change the snapshot");
+        assertEquals(1, snapshot.getWrites());
+        assertEquals(3, snapshot.getHits());
+        assertEquals(1, snapshot.getMisses());
+        assertEquals(0.75, snapshot.getHitRatio());
+        assertEquals(1, snapshot.getErrors());
+        assertEquals(10, snapshot.getBytesRead());
+        assertEquals(20, snapshot.getBytesWritten());
+        assertEquals(1, snapshot.getReadLatency().getCount(), "Reads without a latency should not be added to the histogram");
+        assertEquals(2_000, snapshot.getWriteLatency().getMax());
+    }
+
+    @Test
+    void reset_ShouldStartAllMetricsOver() {
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        metrics.recordRead(1_000);
+        metrics.recordWrite(1_000);
+        metrics.recordHit();
+        metrics.recordError();
+        metrics.recordBytesWritten(5);
+        MetricsSnapshot before = metrics.snapshot();
+
+        metrics.reset();
+        MetricsSnapshot after = metrics.snapshot();
+
+        assertEquals(1, before.getReads(), "Resetting should not change earlier snapshots");
+        assertEquals(0, after.getReads());
+        assertEquals(0, after.getWrites());
+        assertEquals(0, after.getHits());
+        assertEquals(0, after.getHitRatio(), "The hit ratio should be 0 without hits or misses");
+        assertEquals(0, after.getErrors());
+        assertEquals(0, after.getBytesWritten());
+        assertEquals(0, after.getReadLatency().getCount());
+        assertEquals(0, after.getWriteLatency().getMax());
+    }
+
+    @Test
+    void getReadsPerSecond_ShouldRelateToTheEarlierSnapshot() throws Exception {
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        MetricsSnapshot previous = metrics.snapshot();
+        Thread.sleep(50);
+        for (int i = 0; i < 100; i++) {
+            metrics.recordRead();
+        }
+        MetricsSnapshot current = metrics.snapshot();
+
+        double seconds = (current.getTimestampNanos() - previous.getTimestampNanos()) / 1e9;
+        assertEquals(100 / seconds, current.getReadsPerSecond(previous), 1e-6);
+        assertEquals(0, current.getWritesPerSecond(previous));
+        assertEquals(0, current.getReadsPerSecond(current), "Snapshots taken at the same time should report 0");
+    }
+
+    @Test
+    void register_ShouldExposeTheMetricsAsMXBean() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        JmxMetricsExporter exporter = new JmxMetricsExporter(server);
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        ObjectName name = new ObjectName("com.izanagicraft.storage:type=Repository,name=" + ObjectName.quote("users,cache"));
+
+        exporter.register("users,cache", () -> metrics);
+        metrics.recordRead(1_000);
+        metrics.recordHit();
+
+        assertTrue(server.isRegistered(name), "Names with special characters should be quoted");
+        assertEquals(1L, server.getAttribute(name, "Reads"), "Attributes should be computed when they are read");
+        assertEquals(1_000L, server.getAttribute(name, "ReadLatencyMax"));
+        AttributeList attributes = server.getAttributes(name, new String[]{"Reads", "Hits", "HitRatio"});
+        assertEquals(List.of(1L, 1L, 1.0), attributes.asList().stream().map(Attribute::getValue).toList());
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "Reads"), "The reset operation should reset the metrics");
+
+        exporter.unregister("users,cache");
+        assertFalse(server.isRegistered(name));
+        exporter.unregister("users,cache");
+    }
+
+    @Test
+    void register_ShouldReplaceABeanWithTheSameName() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        JmxMetricsExporter exporter = new JmxMetricsExporter(server);
+        RepositoryMetrics first = new RepositoryMetrics();
+        RepositoryMetrics second = new RepositoryMetrics();
+        second.recordWrite();
+        ObjectName name = new ObjectName("com.izanagicraft.storage:type=Repository,name=" + ObjectName.quote("users"));
+
+        exporter.register("users", () -> first);
+        exporter.register("users", () -> second);
+
+        assertEquals(1L, server.getAttribute(name, "Writes"), "The bean should expose the metrics registered last");
+        assertEquals(1, server.queryNames(new ObjectName("com.izanagicraft.storage:*"), null).size());
+    }
+
+    @Test
+    void report_ShouldPassThePreviousSnapshot() {
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        List<MetricsSnapshot[]> reports = new ArrayList<>();
+        try (MetricsReporter reporter = new MetricsReporter(Duration.ofHours(1))) {
+            reporter.register("users", () -> metrics);
+            reporter.addListener((name, snapshot, previous) -> {
+                throw new IllegalStateException("A failing listener");
+            });
+            reporter.addListener((name, snapshot, previous) -> reports.add(new MetricsSnapshot[]{snapshot, previous}));
+
+            metrics.recordRead();
+            reporter.report();
+            metrics.recordRead();
+            reporter.report();
+            reporter.unregister("users");
+            reporter.report();
+        }
+
+        assertEquals(2, reports.size(), "Unregistered metrics should not be reported, failing listeners should not stop others");
+        assertNull(reports.get(0)[1], "The first report should have no previous snapshot");
+        assertEquals(1, reports.get(0)[0].getReads());
+        assertSame(reports.get(0)[0], reports.get(1)[1], "Later reports should pass the snapshot reported before");
+        assertEquals(2, reports.get(1)[0].getReads());
+    }
+
+    @Test
+    void reporter_ShouldReportInTheGivenInterval() throws Exception {
+        CountDownLatch reported = new CountDownLatch(3);
+        try (MetricsReporter reporter = new MetricsReporter(Duration.ofMillis(10))) {
+            reporter.register("users", RepositoryMetrics::new);
+            reporter.addListener((name, snapshot, previous) -> reported.countDown());
+
+            assertTrue(reported.await(5, TimeUnit.SECONDS), "The metrics should be reported periodically");
+        }
+    }
+
+}
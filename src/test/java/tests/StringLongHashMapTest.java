@@ -0,0 +1,153 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.storage.utils.StringLongHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * data-storage; tests:StringLongHashMapTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 18.10.2026
+ */
+class StringLongHashMapTest {
+
+    // "Aa" and "BB" share their hash code, so all of these keys land in the same probe sequence
+    private static final List<String> COLLIDING_KEYS = List.of("AaAa", "AaBB", "BBAa", "BBBB");
+
+    @Test
+    void put_ShouldReplaceThePreviousValue() {
+        StringLongHashMap map = new StringLongHashMap(4);
+        map.put("key", 1);
+        map.put("key", 2);
+
+        assertEquals(2, map.get("key", -1));
+        assertEquals(1, map.size(), "Replacing a value should not add a key");
+        assertEquals(-1, map.get("absent", -1), "Absent keys should return the default value");
+    }
+
+    @Test
+    void addAndGet_ShouldStartAbsentKeysAtZero() {
+        StringLongHashMap map = new StringLongHashMap(4);
+
+        assertEquals(5, map.addAndGet("key", 5));
+        assertEquals(2, map.addAndGet("key", -3));
+        assertTrue(map.containsKey("key"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void remove_ShouldKeepTheRestOfACollisionChainReachable() {
+        for (String removed : COLLIDING_KEYS) {
+            StringLongHashMap map = new StringLongHashMap(16);
+            for (int i = 0; i < COLLIDING_KEYS.size(); i++) {
+                map.put(COLLIDING_KEYS.get(i), i);
+            }
+
+            assertTrue(map.remove(removed), "remove should report a present key");
+            assertFalse(map.remove(removed), "remove should report an absent key");
+            assertFalse(map.containsKey(removed));
+            assertEquals(COLLIDING_KEYS.size() - 1, map.size());
+            for (int i = 0; i < COLLIDING_KEYS.size(); i++) {
+                String key = COLLIDING_KEYS.get(i);
+                if (!key.equals(removed)) {
+                    assertEquals(i, map.get(key, -1), key + " should stay reachable after removing " + removed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void operations_ShouldMatchAHashMapAcrossResizes() {
+        StringLongHashMap map = new StringLongHashMap(1);
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Few distinct keys in a growing table, so removals shift entries back across wrapped probe sequences
+        for (int i = 0; i < 100_000; i++) {
+            String key = "k" + random.nextInt(2000);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.remove(key) != null, map.remove(key), "remove should report " + key);
+                case 1 -> assertEquals(expected.merge(key, 3L, Long::sum), map.addAndGet(key, 3));
+                default -> {
+                    map.put(key, i);
+                    expected.put(key, (long) i);
+                }
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Set<String> keys = new HashSet<>();
+        map.forEachKey(keys::add);
+        assertEquals(expected.keySet(), keys, "forEachKey should pass every key once");
+        expected.forEach((key, value) -> assertEquals(value, map.get(key, -1), "Unexpected value for " + key));
+    }
+
+    @Test
+    void clear_ShouldRemoveAllKeys() {
+        StringLongHashMap map = new StringLongHashMap(4);
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, i);
+        }
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey("key1"));
+        map.forEachKey(key -> fail("No key should remain: " + key));
+    }
+
+}